@@ -0,0 +1,165 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+package org.elasticsearch.benchmark.repositories;
+
+import org.elasticsearch.Version;
+import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.repositories.IndexId;
+import org.elasticsearch.repositories.IndexMetaDataGenerations;
+import org.elasticsearch.repositories.RepositoryData;
+import org.elasticsearch.repositories.ShardGeneration;
+import org.elasticsearch.repositories.ShardGenerations;
+import org.elasticsearch.snapshots.SnapshotId;
+import org.elasticsearch.snapshots.SnapshotState;
+import org.elasticsearch.xcontent.XContentBuilder;
+import org.elasticsearch.xcontent.XContentParser;
+import org.elasticsearch.xcontent.XContentParserConfiguration;
+import org.elasticsearch.xcontent.json.JsonXContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory cost of the {@link RepositoryData} operations that the master performs for every snapshot create and delete,
+ * as a function of the number of snapshots in the repository.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RepositoryDataBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int snapshotCount;
+
+    @Param({ "100" })
+    public int indexCount;
+
+    /**
+     * Number of indices that each snapshot contains, picked round-robin from all indices.
+     */
+    @Param({ "10" })
+    public int indicesPerSnapshot;
+
+    /**
+     * Number of the oldest snapshots that each delete removes, similar to what SLM retention does.
+     */
+    @Param({ "10" })
+    public int snapshotsToDelete;
+
+    private RepositoryData repositoryData;
+    private List<SnapshotId> oldestSnapshots;
+    private SnapshotId newSnapshot;
+    private ShardGenerations newShardGenerations;
+    private BytesReference serializedRepositoryData;
+
+    @Setup
+    public void setup() throws IOException {
+        final List<IndexId> indices = new ArrayList<>(indexCount);
+        final Map<IndexId, List<SnapshotId>> indexSnapshots = new HashMap<>();
+        final ShardGenerations.Builder shardGenerations = ShardGenerations.builder();
+        for (int i = 0; i < indexCount; i++) {
+            final IndexId indexId = new IndexId("index-" + i, UUIDs.randomBase64UUID());
+            indices.add(indexId);
+            indexSnapshots.put(indexId, new ArrayList<>());
+            shardGenerations.put(indexId, 0, ShardGeneration.newGeneration());
+        }
+
+        final Map<String, SnapshotId> snapshotIds = new HashMap<>();
+        final Map<String, RepositoryData.SnapshotDetails> snapshotDetails = new HashMap<>();
+        oldestSnapshots = new ArrayList<>(snapshotsToDelete);
+        for (int i = 0; i < snapshotCount; i++) {
+            final SnapshotId snapshotId = new SnapshotId("snapshot-" + i, UUIDs.randomBase64UUID());
+            snapshotIds.put(snapshotId.getUUID(), snapshotId);
+            snapshotDetails.put(snapshotId.getUUID(), details(i));
+            for (int j = 0; j < indicesPerSnapshot; j++) {
+                indexSnapshots.get(indices.get((i + j) % indexCount)).add(snapshotId);
+            }
+            if (i < snapshotsToDelete) {
+                oldestSnapshots.add(snapshotId);
+            }
+        }
+
+        repositoryData = new RepositoryData(
+            UUIDs.randomBase64UUID(),
+            1L,
+            snapshotIds,
+            snapshotDetails,
+            indexSnapshots,
+            shardGenerations.build(),
+            IndexMetaDataGenerations.EMPTY,
+            UUIDs.randomBase64UUID()
+        );
+
+        newSnapshot = new SnapshotId("snapshot-new", UUIDs.randomBase64UUID());
+        final ShardGenerations.Builder newShardGenerationsBuilder = ShardGenerations.builder();
+        for (int j = 0; j < indicesPerSnapshot; j++) {
+            newShardGenerationsBuilder.put(indices.get(j), 0, ShardGeneration.newGeneration());
+        }
+        newShardGenerations = newShardGenerationsBuilder.build();
+
+        serializedRepositoryData = serialize();
+    }
+
+    private static RepositoryData.SnapshotDetails details(long startTimeMillis) {
+        return new RepositoryData.SnapshotDetails(SnapshotState.SUCCESS, Version.CURRENT, startTimeMillis, startTimeMillis + 1, "slm-policy");
+    }
+
+    @Benchmark
+    public RepositoryData addSnapshot() {
+        return repositoryData.addSnapshot(newSnapshot, details(snapshotCount), newShardGenerations, null, null);
+    }
+
+    @Benchmark
+    public RepositoryData removeOldestSnapshots() {
+        return repositoryData.removeSnapshots(oldestSnapshots, ShardGenerations.EMPTY);
+    }
+
+    @Benchmark
+    public List<IndexId> indicesToUpdateAfterRemovingOldestSnapshots() {
+        return repositoryData.indicesToUpdateAfterRemovingSnapshot(oldestSnapshots);
+    }
+
+    @Benchmark
+    public BytesReference serialize() throws IOException {
+        try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+            repositoryData.snapshotsToXContent(builder, Version.CURRENT);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    @Benchmark
+    public RepositoryData parse() throws IOException {
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                XContentParserConfiguration.EMPTY,
+                serializedRepositoryData.streamInput()
+            )
+        ) {
+            return RepositoryData.snapshotsFromXContent(parser, repositoryData.getGenId(), false);
+        }
+    }
+}
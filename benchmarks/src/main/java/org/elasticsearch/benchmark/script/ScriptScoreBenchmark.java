@@ -93,7 +93,7 @@ public class ScriptScoreBenchmark {
         SourceProvider.fromStoredFields()
     );
 
-    @Param({ "expression", "metal", "painless_cast", "painless_def" })
+    @Param({ "expression", "metal", "painless_cast", "painless_def", "painless_field" })
     private String script;
 
     @Param({ "16" })
@@ -116,6 +116,9 @@ public class ScriptScoreBenchmark {
                     Map.of()
                 );
             case "painless_def" -> scriptModule.engines.get("painless").compile("test", "doc['n'].value", ScoreScript.CONTEXT, Map.of());
+            // the fields api resolves field(String) and Field#get statically, the value access doesn't need a def call site
+            case "painless_field" -> scriptModule.engines.get("painless")
+                .compile("test", "field('n').get(0L)", ScoreScript.CONTEXT, Map.of());
             default -> throw new IllegalArgumentException("Don't know how to implement script [" + script + "]");
         };
     }
@@ -53,7 +53,7 @@ public class DistanceFunctionBenchmark {
     @Param({ "float", "byte" })
     private String element;
 
-    @Param({ "96" })
+    @Param({ "96", "768" })
     private int dims;
 
     @Param({ "dot", "cosine", "l1", "l2" })
@@ -214,7 +214,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new KnnDenseVector(docVector).dotProduct(queryVector);
+            consumer.accept(new KnnDenseVector(docVector).dotProduct(queryVector));
         }
     }
 
@@ -226,7 +226,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteKnnDenseVector(docVector).dotProduct(queryVector);
+            consumer.accept(new ByteKnnDenseVector(docVector).dotProduct(queryVector));
         }
     }
 
@@ -238,7 +238,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new BinaryDenseVector(docVector, dims, Version.CURRENT).dotProduct(queryVector);
+            consumer.accept(new BinaryDenseVector(docVector, dims, Version.CURRENT).dotProduct(queryVector));
         }
     }
 
@@ -250,7 +250,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteBinaryDenseVector(docVector, dims).dotProduct(queryVector);
+            consumer.accept(new ByteBinaryDenseVector(docVector, dims).dotProduct(queryVector));
         }
     }
 
@@ -262,7 +262,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new KnnDenseVector(docVector).cosineSimilarity(queryVector, false);
+            consumer.accept(new KnnDenseVector(docVector).cosineSimilarity(queryVector, false));
         }
     }
 
@@ -274,7 +274,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteKnnDenseVector(docVector).cosineSimilarity(queryVector, queryMagnitude);
+            consumer.accept(new ByteKnnDenseVector(docVector).cosineSimilarity(queryVector, queryMagnitude));
         }
     }
 
@@ -286,7 +286,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new BinaryDenseVector(docVector, dims, Version.CURRENT).cosineSimilarity(queryVector, false);
+            consumer.accept(new BinaryDenseVector(docVector, dims, Version.CURRENT).cosineSimilarity(queryVector, false));
         }
     }
 
@@ -298,7 +298,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteBinaryDenseVector(docVector, dims).cosineSimilarity(queryVector, queryMagnitude);
+            consumer.accept(new ByteBinaryDenseVector(docVector, dims).cosineSimilarity(queryVector, queryMagnitude));
         }
     }
 
@@ -310,7 +310,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new KnnDenseVector(docVector).l1Norm(queryVector);
+            consumer.accept(new KnnDenseVector(docVector).l1Norm(queryVector));
         }
     }
 
@@ -322,7 +322,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteKnnDenseVector(docVector).l1Norm(queryVector);
+            consumer.accept(new ByteKnnDenseVector(docVector).l1Norm(queryVector));
         }
     }
 
@@ -334,7 +334,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new BinaryDenseVector(docVector, dims, Version.CURRENT).l1Norm(queryVector);
+            consumer.accept(new BinaryDenseVector(docVector, dims, Version.CURRENT).l1Norm(queryVector));
         }
     }
 
@@ -346,7 +346,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteBinaryDenseVector(docVector, dims).l1Norm(queryVector);
+            consumer.accept(new ByteBinaryDenseVector(docVector, dims).l1Norm(queryVector));
         }
     }
 
@@ -358,7 +358,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new KnnDenseVector(docVector).l2Norm(queryVector);
+            consumer.accept(new KnnDenseVector(docVector).l2Norm(queryVector));
         }
     }
 
@@ -370,7 +370,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new ByteKnnDenseVector(docVector).l2Norm(queryVector);
+            consumer.accept(new ByteKnnDenseVector(docVector).l2Norm(queryVector));
         }
     }
 
@@ -382,7 +382,7 @@ public class DistanceFunctionBenchmark {
 
         @Override
         public void execute(Consumer<Object> consumer) {
-            new BinaryDenseVector(docVector, dims, Version.CURRENT).l1Norm(queryVector);
+            consumer.accept(new BinaryDenseVector(docVector, dims, Version.CURRENT).l2Norm(queryVector));
         }
     }
 
@@ -10,7 +10,6 @@ package org.elasticsearch.dissect;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Iterator;
@@ -197,12 +196,12 @@ public final class DissectParser {
         // ensure leading delimiter matches
         if (inputString != null
             && inputString.length() > leadingDelimiter.length()
-            && leadingDelimiter.equals(inputString.substring(0, leadingDelimiter.length()))) {
+            && inputString.startsWith(leadingDelimiter)) {
             byte[] input = inputString.getBytes(StandardCharsets.UTF_8);
             // grab the first key/delimiter pair
             DissectPair dissectPair = it.next();
             DissectKey key = dissectPair.getKey();
-            byte[] delimiter = dissectPair.getDelimiter().getBytes(StandardCharsets.UTF_8);
+            byte[] delimiter = dissectPair.getDelimiterBytes();
             // start dissection after the first delimiter
             int i = leadingDelimiter.length();
             int valueStart = i;
@@ -217,13 +216,14 @@ public final class DissectParser {
                     for (int j = 0; j < delimiter.length; j++) {
                         if (i + j < input.length && input[i + j] == delimiter[j]) {
                             lookAheadMatches++;
+                        } else {
+                            break;
                         }
                     }
                     // found a full delimiter match
                     if (lookAheadMatches == delimiter.length) {
                         // record the key/value tuple
-                        byte[] value = Arrays.copyOfRange(input, valueStart, i);
-                        dissectMatch.add(key, new String(value, StandardCharsets.UTF_8));
+                        dissectMatch.add(key, new String(input, valueStart, i - valueStart, StandardCharsets.UTF_8));
                         // jump to the end of the match
                         i += lookAheadMatches;
                         // look for consecutive delimiters (e.g. a,,,,d,e)
@@ -232,6 +232,8 @@ public final class DissectParser {
                             for (int j = 0; j < delimiter.length; j++) {
                                 if (i + j < input.length && input[i + j] == delimiter[j]) {
                                     lookAheadMatches++;
+                                } else {
+                                    break;
                                 }
                             }
                             // found consecutive delimiters
@@ -258,7 +260,7 @@ public final class DissectParser {
                         }
                         dissectPair = it.next();
                         key = dissectPair.getKey();
-                        delimiter = dissectPair.getDelimiter().getBytes(StandardCharsets.UTF_8);
+                        delimiter = dissectPair.getDelimiterBytes();
                         // i is always one byte after the last found delimiter, aka the start of the next value
                         valueStart = i;
                     } else {
@@ -271,9 +273,7 @@ public final class DissectParser {
             // the last key, grab the rest of the input (unless consecutive delimiters already grabbed the last key)
             // and there is no trailing delimiter
             if (dissectMatch.fullyMatched() == false && delimiter.length == 0) {
-                byte[] value = Arrays.copyOfRange(input, valueStart, input.length);
-                String valueString = new String(value, StandardCharsets.UTF_8);
-                dissectMatch.add(key, valueString);
+                dissectMatch.add(key, new String(input, valueStart, input.length - valueStart, StandardCharsets.UTF_8));
             }
         }
         Map<String, String> results = dissectMatch.getResults();
@@ -303,10 +303,12 @@ public final class DissectParser {
 
         private final DissectKey key;
         private final String delimiter;
+        private final byte[] delimiterBytes;
 
         private DissectPair(DissectKey key, String delimiter) {
             this.key = key;
             this.delimiter = delimiter;
+            this.delimiterBytes = delimiter.getBytes(StandardCharsets.UTF_8);
         }
 
         private DissectKey getKey() {
@@ -316,6 +318,10 @@ public final class DissectParser {
         private String getDelimiter() {
             return delimiter;
         }
+
+        private byte[] getDelimiterBytes() {
+            return delimiterBytes;
+        }
     }
 
 }
@@ -332,6 +332,16 @@ public class DissectParserTests extends ESTestCase {
         assertMatch(",%{a} %{b}", ",,foo bar", Arrays.asList("a", "b"), Arrays.asList(",foo", "bar"));
     }
 
+    public void testPartialDelimiterMatches() {
+        // partial delimiter matches, including ones where later bytes of the delimiter line up again, are part of the value
+        assertMatch("%{a}<->%{b}", "1<x>2<-3<->4", Arrays.asList("a", "b"), Arrays.asList("1<x>2<-3", "4"));
+        assertMatch("%{a->}<->%{b}", "1<-><-><-x4", Arrays.asList("a", "b"), Arrays.asList("1", "<-x4"));
+        // multi-byte delimiter sharing its leading byte with a character of the value
+        assertMatch("%{a}→%{b}", "x‐y→z", Arrays.asList("a", "b"), Arrays.asList("x‐y", "z"));
+        assertMiss("%{a}<->%{b}", "foo<-bar");
+        assertMiss("%{a}<->", "foo<-");
+    }
+
     public void testEmptyValueWithBrackets() {
         assertMatch("(%{a}) [%{b}] -[%{c}]", "(foo) [] -[bar]", Arrays.asList("a", "b", "c"), Arrays.asList("foo", "", "bar"));
         assertMatch("[%{a}] [%{b}]", "[] []", Arrays.asList("a", "b"), Arrays.asList("", ""));
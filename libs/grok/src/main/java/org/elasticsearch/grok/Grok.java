@@ -281,11 +281,15 @@ public final class Grok {
      */
     public Map<String, Object> captures(String text) {
         byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
-        GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
-        if (match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
-            return extracter.result();
+        Region region = search(utf8Bytes, 0, utf8Bytes.length);
+        if (region == null) {
+            return null;
         }
-        return null;
+        // Only build the extracter once we know that there is a match. It allocates an extracter per capture, which is wasted work on
+        // the (frequent) documents that don't match.
+        GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
+        extracter.extract(utf8Bytes, 0, region);
+        return extracter.result();
     }
 
     /**
@@ -298,6 +302,20 @@ public final class Grok {
      * @throws RuntimeException if there was a timeout
      */
     public boolean match(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        Region region = search(utf8Bytes, offset, length);
+        if (region == null) {
+            return false;
+        }
+        extracter.extract(utf8Bytes, offset, region);
+        return true;
+    }
+
+    /**
+     * Searches for the grok expression in the given utf-8 encoded text.
+     * @return the region of the match or {@code null} if there was no match
+     * @throws RuntimeException if there was a timeout
+     */
+    private Region search(byte[] utf8Bytes, int offset, int length) {
         Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
         int result;
         try {
@@ -312,10 +330,9 @@ public final class Grok {
             );
         }
         if (result == Matcher.FAILED) {
-            return false;
+            return null;
         }
-        extracter.extract(utf8Bytes, offset, matcher.getEagerRegion());
-        return true;
+        return matcher.getEagerRegion();
     }
 
     /**
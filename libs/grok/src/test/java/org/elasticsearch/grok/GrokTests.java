@@ -55,6 +55,26 @@ public class GrokTests extends ESTestCase {
         assertThat(grok.captures("no_match"), nullValue());
     }
 
+    public void testCapturesSameAsMatch() {
+        testCapturesSameAsMatch(false);
+        testCapturesSameAsMatch(true);
+    }
+
+    private void testCapturesSameAsMatch(boolean ecsCompatibility) {
+        Grok grok = new Grok(Grok.getBuiltinPatterns(ecsCompatibility), "%{WORD:verb} %{NUMBER:bytes:int}( %{IP:client})?", logger::warn);
+        assertThat(grok.captures("GET 1024 10.0.0.1"), equalTo(Map.of("verb", "GET", "bytes", 1024, "client", "10.0.0.1")));
+        assertThat(grok.captures("no_match"), nullValue());
+        for (String text : List.of("GET 1024 10.0.0.1", "POST 7", "prefix GET 1024 suffix", "GET abc", "no_match", "")) {
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(grok.captureConfig());
+            if (grok.match(utf8, 0, utf8.length, extracter)) {
+                assertThat(text, grok.captures(text), equalTo(extracter.result()));
+            } else {
+                assertThat(text, grok.captures(text), nullValue());
+            }
+        }
+    }
+
     public void testCapturesBytes() {
         testCapturesBytes(false);
         testCapturesBytes(true);
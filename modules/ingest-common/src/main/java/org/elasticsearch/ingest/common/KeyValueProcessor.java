@@ -175,16 +175,34 @@ public final class KeyValueProcessor extends AbstractProcessor {
         }
     }
 
-    private static Function<String, String[]> buildSplitter(String split, boolean fields) {
+    static Function<String, String[]> buildSplitter(String split, boolean fields) {
         int limit = fields ? 0 : 2;
-        if (split.length() > 2 || split.length() == 2 && split.charAt(0) != '\\') {
+        if (isLiteralSplit(split)) {
+            return val -> val.split(split, limit);
+        } else {
             Pattern splitPattern = Pattern.compile(split);
             return val -> splitPattern.split(val, limit);
-        } else {
-            return val -> val.split(split, limit);
         }
     }
 
+    /**
+     * Whether {@link String#split} handles the given separator without compiling it to a regular expression, which is the case for a
+     * single character that isn't a regex meta character or a backslash-escaped character that isn't a letter or digit. For any other
+     * separator {@link String#split} would compile a new {@link Pattern} for every call, so we compile it once up front instead.
+     */
+    static boolean isLiteralSplit(String split) {
+        if (split.length() == 1) {
+            return ".$|()[{^?*+\\".indexOf(split.charAt(0)) == -1 && Character.isSurrogate(split.charAt(0)) == false;
+        } else if (split.length() == 2 && split.charAt(0) == '\\') {
+            char escaped = split.charAt(1);
+            return (escaped < '0' || escaped > '9')
+                && (escaped < 'a' || escaped > 'z')
+                && (escaped < 'A' || escaped > 'Z')
+                && Character.isSurrogate(escaped) == false;
+        }
+        return false;
+    }
+
     TemplateScript.Factory getField() {
         return field;
     }
@@ -191,6 +191,33 @@ public class KeyValueProcessorTests extends ESTestCase {
         assertThat(ingestDocument.getFieldValue("target.arg_second", List.class), equalTo(List.of("world", "universe")));
     }
 
+    public void testIsLiteralSplit() {
+        assertTrue(KeyValueProcessor.isLiteralSplit("&"));
+        assertTrue(KeyValueProcessor.isLiteralSplit("\\|"));
+        assertTrue(KeyValueProcessor.isLiteralSplit("\\\\"));
+        // single regex meta characters
+        for (String meta : List.of(".", "$", "|", "(", ")", "[", "{", "^", "?", "*", "+", "\\")) {
+            assertFalse(meta, KeyValueProcessor.isLiteralSplit(meta));
+        }
+        // escaped letters and digits are character classes and back references
+        assertFalse(KeyValueProcessor.isLiteralSplit("\\s"));
+        assertFalse(KeyValueProcessor.isLiteralSplit("\\1"));
+        // surrogates, alone or as a pair
+        assertFalse(KeyValueProcessor.isLiteralSplit("\ud83d"));
+        assertFalse(KeyValueProcessor.isLiteralSplit("\ud83d\ude00"));
+        assertFalse(KeyValueProcessor.isLiteralSplit("\\\ud83d"));
+        assertFalse(KeyValueProcessor.isLiteralSplit("&&"));
+    }
+
+    public void testSplitterMatchesStringSplit() {
+        String value = "a&b|c.d e\\f\ud83d\ude00g1h&&i|j\ud83d\ude00\ud83d\ude00k.";
+        for (String split : List.of("&", "|", ".", "\\|", "\\.", "\\s", "\\\\", "\\d", "\ud83d\ude00", "&&", "[|.]")) {
+            for (boolean fields : new boolean[] { true, false }) {
+                assertArrayEquals(split, value.split(split, fields ? 0 : 2), KeyValueProcessor.buildSplitter(split, fields).apply(value));
+            }
+        }
+    }
+
     private static KeyValueProcessor createKvProcessor(
         String field,
         String fieldSplit,
@@ -30,6 +30,7 @@ import org.elasticsearch.gateway.GatewayService;
 import org.elasticsearch.index.Index;
 import org.elasticsearch.index.query.TermQueryBuilder;
 import org.elasticsearch.ingest.IngestService;
+import org.elasticsearch.ingest.geoip.stats.CacheStats;
 import org.elasticsearch.persistent.PersistentTasksCustomMetadata;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.watcher.ResourceWatcherService;
@@ -493,6 +494,10 @@ public final class DatabaseNodeService implements GeoIpDatabaseProvider, Closeab
         return configDatabases.getConfigDatabases().keySet();
     }
 
+    public CacheStats getCacheStats() {
+        return cache.getCacheStats();
+    }
+
     public Set<String> getFilesInTemp() {
         try (Stream<Path> files = Files.list(geoipTmpDirectory)) {
             return files.map(Path::getFileName).map(Path::toString).collect(Collectors.toSet());
@@ -12,10 +12,14 @@ import com.maxmind.geoip2.model.AbstractResponse;
 
 import org.elasticsearch.common.cache.Cache;
 import org.elasticsearch.common.cache.CacheBuilder;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.ingest.geoip.stats.CacheStats;
 
 import java.net.InetAddress;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * The in-memory cache for the geoip data. There should only be 1 instance of this class..
@@ -24,16 +28,24 @@ import java.util.function.Function;
  * reduction of CPU usage.
  */
 final class GeoIpCache {
+    private final LongSupplier relativeNanoTimeProvider;
     private final Cache<CacheKey, AbstractResponse> cache;
+    private final LongAdder hitsTimeInNanos = new LongAdder();
+    private final LongAdder missesTimeInNanos = new LongAdder();
 
     // package private for testing
-    GeoIpCache(long maxSize) {
+    GeoIpCache(long maxSize, LongSupplier relativeNanoTimeProvider) {
         if (maxSize < 0) {
             throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
         }
+        this.relativeNanoTimeProvider = relativeNanoTimeProvider;
         this.cache = CacheBuilder.<CacheKey, AbstractResponse>builder().setMaximumWeight(maxSize).build();
     }
 
+    GeoIpCache(long maxSize) {
+        this(maxSize, System::nanoTime);
+    }
+
     @SuppressWarnings("unchecked")
     <T extends AbstractResponse> T putIfAbsent(
         InetAddress ip,
@@ -43,13 +55,22 @@ final class GeoIpCache {
 
         // can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
         CacheKey cacheKey = new CacheKey(ip, databasePath);
+        long cacheStart = relativeNanoTimeProvider.getAsLong();
         // intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
         AbstractResponse response = cache.get(cacheKey);
+        long cacheRequestTime = relativeNanoTimeProvider.getAsLong() - cacheStart;
+
+        // populate the cache for this key, if necessary
         if (response == null) {
+            long retrieveStart = relativeNanoTimeProvider.getAsLong();
             response = retrieveFunction.apply(ip);
             if (response != null) {
                 cache.put(cacheKey, response);
             }
+            long databaseRequestAndCachePutTime = relativeNanoTimeProvider.getAsLong() - retrieveStart;
+            missesTimeInNanos.add(cacheRequestTime + databaseRequestAndCachePutTime);
+        } else {
+            hitsTimeInNanos.add(cacheRequestTime);
         }
         return (T) response;
     }
@@ -76,6 +97,23 @@ final class GeoIpCache {
         return cache.count();
     }
 
+    /**
+     * Returns stats about this cache as of this moment. There is no guarantee that the counts reconcile (for example hits + misses = count)
+     * because no locking is performed when requesting these stats.
+     * @return Current stats about this cache
+     */
+    public CacheStats getCacheStats() {
+        Cache.CacheStats stats = cache.stats();
+        return new CacheStats(
+            cache.count(),
+            stats.getHits(),
+            stats.getMisses(),
+            stats.getEvictions(),
+            TimeValue.nsecToMSec(hitsTimeInNanos.sum()),
+            TimeValue.nsecToMSec(missesTimeInNanos.sum())
+        );
+    }
+
     /**
      * The key to use for the cache. Since this cache can span multiple geoip processors that all use different databases, the database
      * path is needed to be included in the cache key. For example, if we only used the IP address as the key the City and ASN the same
@@ -11,8 +11,14 @@ package org.elasticsearch.ingest.geoip;
 import com.maxmind.geoip2.model.AbstractResponse;
 
 import org.elasticsearch.common.network.InetAddresses;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.ingest.geoip.stats.CacheStats;
 import org.elasticsearch.test.ESTestCase;
 
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 
 public class GeoIpCacheTests extends ESTestCase {
@@ -60,6 +66,35 @@ public class GeoIpCacheTests extends ESTestCase {
         assertEquals("bad", ex.getMessage());
     }
 
+    public void testGetCacheStats() {
+        final long maxCacheSize = 2;
+        final AtomicLong testNanoTime = new AtomicLong(0);
+        // We use a relative time provider that increments 1ms every time it is called. So each operation appears to take 1ms
+        GeoIpCache cache = new GeoIpCache(maxCacheSize, () -> testNanoTime.addAndGet(TimeValue.timeValueMillis(1).getNanos()));
+        AbstractResponse response = mock(AbstractResponse.class);
+        String databasePath = "path/to/db1";
+        InetAddress key1 = InetAddresses.forString("127.0.0.1");
+        InetAddress key2 = InetAddresses.forString("127.0.0.2");
+        InetAddress key3 = InetAddresses.forString("127.0.0.3");
+
+        cache.putIfAbsent(key1, databasePath, ip -> response); // cache miss
+        cache.putIfAbsent(key2, databasePath, ip -> response); // cache miss
+        cache.putIfAbsent(key1, databasePath, ip -> response); // cache hit
+        cache.putIfAbsent(key1, databasePath, ip -> response); // cache hit
+        cache.putIfAbsent(key1, databasePath, ip -> response); // cache hit
+        cache.putIfAbsent(key3, databasePath, ip -> response); // cache miss, key2 will be evicted
+        cache.putIfAbsent(key2, databasePath, ip -> response); // cache miss, key1 will be evicted
+        CacheStats cacheStats = cache.getCacheStats();
+        assertThat(cacheStats.count(), equalTo(maxCacheSize));
+        assertThat(cacheStats.hits(), equalTo(3L));
+        assertThat(cacheStats.misses(), equalTo(4L));
+        assertThat(cacheStats.evictions(), equalTo(2L));
+        // There are 3 hits, each taking 1ms:
+        assertThat(cacheStats.hitsTimeInMillis(), equalTo(3L));
+        // There are 4 misses. Each is made up of a cache query, and a database query, each being 1ms:
+        assertThat(cacheStats.missesTimeInMillis(), equalTo(8L));
+    }
+
     public void testInvalidInit() {
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class, () -> new GeoIpCache(-1));
         assertEquals("geoip max cache size must be 0 or greater", ex.getMessage());
@@ -38,12 +38,23 @@ public class GeoIpDownloaderStatsActionNodeResponseSerializingTests extends Abst
         Set<String> databases = Set.copyOf(randomList(10, () -> randomAlphaOfLengthBetween(5, 10)));
         Set<String> files = Set.copyOf(randomList(10, () -> randomAlphaOfLengthBetween(5, 10)));
         Set<String> configDatabases = Set.copyOf(randomList(10, () -> randomAlphaOfLengthBetween(5, 10)));
+        CacheStats cacheStats = randomBoolean()
+            ? null
+            : new CacheStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
         return new GeoIpDownloaderStatsAction.NodeResponse(
             node,
             GeoIpDownloaderStatsSerializingTests.createRandomInstance(),
             databases,
             files,
-            configDatabases
+            configDatabases,
+            cacheStats
         );
     }
 }
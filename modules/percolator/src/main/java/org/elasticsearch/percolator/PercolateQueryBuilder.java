@@ -38,7 +38,6 @@ import org.elasticsearch.Version;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.common.bytes.BytesReference;
-import org.elasticsearch.common.io.stream.InputStreamStreamInput;
 import org.elasticsearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.io.stream.StreamInput;
@@ -72,9 +71,7 @@ import org.elasticsearch.xcontent.XContentFactory;
 import org.elasticsearch.xcontent.XContentParser;
 import org.elasticsearch.xcontent.XContentType;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -583,27 +580,26 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
             return docId -> {
                 if (binaryDocValues.advanceExact(docId)) {
                     BytesRef qbSource = binaryDocValues.binaryValue();
-                    try (InputStream in = new ByteArrayInputStream(qbSource.bytes, qbSource.offset, qbSource.length)) {
-                        try (
-                            StreamInput input = new NamedWriteableAwareStreamInput(
-                                new InputStreamStreamInput(in, qbSource.length),
-                                registry
-                            )
-                        ) {
-                            input.setTransportVersion(indexVersion.transportVersion);
-                            // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
-                            // to encode multiple binary values into a single binary doc values field.
-                            // This is the reason we need to first need to read the number of values and
-                            // then the length of the field value in bytes.
-                            int numValues = input.readVInt();
-                            assert numValues == 1;
-                            int valueLength = input.readVInt();
-                            assert valueLength > 0;
-                            QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
-                            assert in.read() == -1;
-                            queryBuilder = Rewriteable.rewrite(queryBuilder, context);
-                            return queryBuilder.toQuery(context);
-                        }
+                    // read straight from the doc values bytes, this runs for every candidate query
+                    try (
+                        StreamInput input = new NamedWriteableAwareStreamInput(
+                            StreamInput.wrap(qbSource.bytes, qbSource.offset, qbSource.length),
+                            registry
+                        )
+                    ) {
+                        input.setTransportVersion(indexVersion.transportVersion);
+                        // Query builder's content is stored via BinaryFieldMapper, which has a custom encoding
+                        // to encode multiple binary values into a single binary doc values field.
+                        // This is the reason we need to first need to read the number of values and
+                        // then the length of the field value in bytes.
+                        int numValues = input.readVInt();
+                        assert numValues == 1;
+                        int valueLength = input.readVInt();
+                        assert valueLength > 0;
+                        QueryBuilder queryBuilder = input.readNamedWriteable(QueryBuilder.class);
+                        assert input.available() == 0;
+                        queryBuilder = Rewriteable.rewrite(queryBuilder, context);
+                        return queryBuilder.toQuery(context);
                     }
                 } else {
                     return null;
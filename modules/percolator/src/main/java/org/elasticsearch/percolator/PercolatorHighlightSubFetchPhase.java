@@ -14,6 +14,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.document.DocumentField;
+import org.elasticsearch.core.CheckedFunction;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.fetch.FetchContext;
 import org.elasticsearch.search.fetch.FetchSubPhase;
@@ -28,6 +29,7 @@ import org.elasticsearch.search.lookup.Source;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,13 +55,12 @@ final class PercolatorHighlightSubFetchPhase implements FetchSubPhase {
         }
         return new FetchSubPhaseProcessor() {
 
-            LeafReaderContext ctx;
-
-            @Override
-            public void setNextReader(LeafReaderContext readerContext) {
-                this.ctx = readerContext;
-            }
-
+                    CheckedFunction<Integer, Query, IOException> queries = leafQueries.get(pc.percolateQuery);
+                    if (queries == null) {
+                        queries = pc.percolateQuery.getQueryStore().getQueries(ctx);
+                        leafQueries.put(pc.percolateQuery, queries);
+                    }
+                    Query query = queries.apply(hitContext.docId());
             @Override
             public StoredFieldsSpec storedFieldsSpec() {
                 return StoredFieldsSpec.NO_REQUIREMENTS;
@@ -73,10 +74,14 @@ final class PercolatorHighlightSubFetchPhase implements FetchSubPhase {
                         ? PercolatorMatchedSlotSubFetchPhase.FIELD_NAME_PREFIX
                         : PercolatorMatchedSlotSubFetchPhase.FIELD_NAME_PREFIX + "_" + percolateQuery.getName();
                     IndexSearcher percolatorIndexSearcher = percolateQuery.getPercolatorIndexSearcher();
-                    PercolateQuery.QueryStore queryStore = percolateQuery.getQueryStore();
 
                     LeafReaderContext percolatorLeafReaderContext = percolatorIndexSearcher.getIndexReader().leaves().get(0);
-                    final Query query = queryStore.getQueries(ctx).apply(hit.docId());
+                    CheckedFunction<Integer, Query, IOException> queries = leafQueries.get(percolateQuery);
+                    if (queries == null) {
+                        queries = percolateQuery.getQueryStore().getQueries(ctx);
+                        leafQueries.put(percolateQuery, queries);
+                    }
+                    final Query query = queries.apply(hit.docId());
                     if (query != null) {
                         DocumentField field = hit.hit().field(fieldName);
                         if (field == null) {
@@ -23,6 +23,7 @@ import org.apache.lucene.util.BitSetIterator;
 import org.elasticsearch.Version;
 import org.elasticsearch.common.document.DocumentField;
 import org.elasticsearch.common.lucene.search.Queries;
+import org.elasticsearch.core.CheckedFunction;
 import org.elasticsearch.search.fetch.FetchContext;
 import org.elasticsearch.search.fetch.FetchSubPhase;
 import org.elasticsearch.search.fetch.FetchSubPhaseProcessor;
@@ -31,7 +32,9 @@ import org.elasticsearch.search.fetch.StoredFieldsSpec;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -64,10 +67,13 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
         return new FetchSubPhaseProcessor() {
 
             LeafReaderContext ctx;
+            // stored queries of the current segment, looked up once per segment for each percolate query
+            final Map<PercolateQuery, CheckedFunction<Integer, Query, IOException>> leafQueries = new HashMap<>();
 
             @Override
             public void setNextReader(LeafReaderContext readerContext) {
                 this.ctx = readerContext;
+                leafQueries.clear();
             }
 
             @Override
@@ -79,7 +85,12 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
             public void process(HitContext hitContext) throws IOException {
                 for (PercolateContext pc : percolateContexts) {
                     String fieldName = pc.fieldName();
-                    Query query = pc.percolateQuery.getQueryStore().getQueries(ctx).apply(hitContext.docId());
+                    CheckedFunction<Integer, Query, IOException> queries = leafQueries.get(pc.percolateQuery);
+                    if (queries == null) {
+                        queries = pc.percolateQuery.getQueryStore().getQueries(ctx);
+                        leafQueries.put(pc.percolateQuery, queries);
+                    }
+                    Query query = queries.apply(hitContext.docId());
                     if (query == null) {
                         // This is not a document with a percolator field.
                         continue;
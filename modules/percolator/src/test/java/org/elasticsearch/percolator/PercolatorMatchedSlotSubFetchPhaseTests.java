@@ -11,7 +11,10 @@ import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.memory.MemoryIndex;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -35,6 +38,7 @@ import org.elasticsearch.test.ESTestCase;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.mock;
@@ -148,6 +152,57 @@ public class PercolatorMatchedSlotSubFetchPhaseTests extends ESTestCase {
         }
     }
 
+    public void testLooksUpStoredQueriesOncePerSegment() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                indexWriter.addDocument(new Document());
+                indexWriter.addDocument(new Document());
+                indexWriter.commit();
+                indexWriter.addDocument(new Document());
+            }
+
+            AtomicInteger lookups = new AtomicInteger();
+            PercolateQuery.QueryStore queryStore = ctx -> {
+                lookups.incrementAndGet();
+                return docId -> new TermQuery(new Term("field", "value"));
+            };
+            MemoryIndex memoryIndex = new MemoryIndex();
+            memoryIndex.addField("field", "value", new WhitespaceAnalyzer());
+            memoryIndex.addField(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 0), null);
+            PercolateQuery percolateQuery = new PercolateQuery(
+                "_name",
+                queryStore,
+                Collections.emptyList(),
+                new MatchAllDocsQuery(),
+                memoryIndex.createSearcher(),
+                null,
+                new MatchNoDocsQuery()
+            );
+
+            FetchContext sc = mock(FetchContext.class);
+            when(sc.query()).thenReturn(percolateQuery);
+            SearchExecutionContext sec = mock(SearchExecutionContext.class);
+            when(sc.getSearchExecutionContext()).thenReturn(sec);
+            when(sec.indexVersionCreated()).thenReturn(Version.CURRENT);
+
+            FetchSubPhaseProcessor processor = new PercolatorMatchedSlotSubFetchPhase().getProcessor(sc);
+            assertNotNull(processor);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(2, reader.leaves().size());
+                int expectedLookups = 0;
+                for (LeafReaderContext context : reader.leaves()) {
+                    processor.setNextReader(context);
+                    for (int docId = 0; docId < context.reader().maxDoc(); docId++) {
+                        HitContext hit = new HitContext(new SearchHit(docId), context, docId, Map.of(), Source.empty(null));
+                        processor.process(hit);
+                        assertEquals(0, (int) hit.hit().field(PercolatorMatchedSlotSubFetchPhase.FIELD_NAME_PREFIX).getValue());
+                    }
+                    assertEquals(++expectedLookups, lookups.get());
+                }
+            }
+        }
+    }
+
     public void testConvertTopDocsToSlots() {
         ScoreDoc[] scoreDocs = new ScoreDoc[randomInt(128)];
         for (int i = 0; i < scoreDocs.length; i++) {
@@ -604,6 +604,14 @@ public class IndexRecoveryIT extends AbstractIndexRecoveryIntegTestCase {
         assertBusy(() -> assertNodeHasThrottleTimeAndNoRecoveries.accept(nodeA));
         assertBusy(() -> assertNodeHasThrottleTimeAndNoRecoveries.accept(nodeB));
 
+        final RecoveryStats nodeBShardRecoveryStats = internalCluster().getInstance(IndicesService.class, nodeB)
+            .indexServiceSafe(index)
+            .getShard(0)
+            .recoveryStats();
+        assertThat(nodeBShardRecoveryStats.recoveredBytes(), equalTo(recoveryStates.get(0).getIndex().recoveredBytes()));
+        assertThat(nodeBShardRecoveryStats.reusedBytes(), equalTo(recoveryStates.get(0).getIndex().reusedBytes()));
+        assertThat(nodeBShardRecoveryStats.recoveredBytes(), greaterThan(0L));
+
         logger.info("--> bump replica count");
         client().admin()
             .indices()
@@ -18,6 +18,8 @@ import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.index.mapper.DocumentMapper;
 import org.elasticsearch.index.mapper.MapperService;
+import org.elasticsearch.xcontent.XContentParser;
+import org.elasticsearch.xcontent.XContentParserConfiguration;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -48,15 +50,35 @@ public class MappingMetadata implements SimpleDiffable<MappingMetadata> {
         this.routingRequired = docMapper.routingFieldMapper().required();
     }
 
-    @SuppressWarnings("unchecked")
     public MappingMetadata(CompressedXContent mapping) {
         this.source = mapping;
-        Map<String, Object> mappingMap = XContentHelper.convertToMap(mapping.compressedReference(), true).v2();
-        if (mappingMap.size() != 1) {
-            throw new IllegalStateException("Can't derive type from mapping, no root type: " + mapping.string());
+        // Only the root type and the _routing section are needed here, so we stream over the mapping and skip everything else rather
+        // than materializing the whole mapping as a map. This matters when loading the metadata of many indices with large mappings.
+        try (XContentParser parser = XContentHelper.createParser(XContentParserConfiguration.EMPTY, mapping.compressedReference())) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT || parser.nextToken() != XContentParser.Token.FIELD_NAME) {
+                throw new IllegalStateException("Can't derive type from mapping, no root type: " + mapping.string());
+            }
+            this.type = parser.currentName();
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                throw new IllegalStateException("Can't derive type from mapping, root type is not an object: " + mapping.string());
+            }
+            Map<String, Object> routing = Map.of();
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("_routing".equals(fieldName) && parser.currentToken() == XContentParser.Token.START_OBJECT) {
+                    routing = Map.of(fieldName, parser.map());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                throw new IllegalStateException("Can't derive type from mapping, no root type: " + mapping.string());
+            }
+            this.routingRequired = routingRequired(routing);
+        } catch (IOException e) {
+            throw new ElasticsearchParseException("Failed to parse mapping", e);
         }
-        this.type = mappingMap.keySet().iterator().next();
-        this.routingRequired = routingRequired((Map<String, Object>) mappingMap.get(this.type));
     }
 
     @SuppressWarnings("unchecked")
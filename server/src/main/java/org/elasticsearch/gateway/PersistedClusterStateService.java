@@ -385,6 +385,7 @@ public class PersistedClusterStateService {
      * @param checkClean whether to check the index for corruption before loading, only for tests
      */
     OnDiskState loadBestOnDiskState(boolean checkClean) throws IOException {
+        final long startTimeNanos = System.nanoTime();
         String committedClusterUuid = null;
         Path committedClusterUuidPath = null;
         OnDiskState bestOnDiskState = OnDiskState.NO_ON_DISK_STATE;
@@ -530,6 +531,17 @@ public class PersistedClusterStateService {
             );
         }
 
+        if (bestOnDiskState.empty() == false) {
+            logger.info(
+                "loaded cluster state in term [{}] and version [{}] containing metadata for [{}] indices from [{}] in [{}]",
+                bestOnDiskState.currentTerm,
+                bestOnDiskState.lastAcceptedVersion,
+                bestOnDiskState.metadata.indices().size(),
+                bestOnDiskState.dataPath,
+                TimeValue.timeValueNanos(System.nanoTime() - startTimeNanos)
+            );
+        }
+
         return bestOnDiskState;
     }
 
@@ -537,6 +549,7 @@ public class PersistedClusterStateService {
         final IndexSearcher searcher = new IndexSearcher(reader);
         searcher.setQueryCache(null);
 
+        final long startTimeNanos = System.nanoTime();
         final SetOnce<Metadata.Builder> builderReference = new SetOnce<>();
         consumeFromType(searcher, GLOBAL_TYPE_NAME, ignored -> GLOBAL_TYPE_NAME, bytes -> {
             final Metadata metadata = readXContent(bytes, Metadata.Builder::fromXContent);
@@ -552,6 +565,7 @@ public class PersistedClusterStateService {
             throw new CorruptStateException("no global metadata found in [" + dataPath + "]");
         }
 
+        final long globalLoadedTimeNanos = System.nanoTime();
         logger.trace("got global metadata, now reading mapping metadata");
 
         final Map<String, MappingMetadata> mappingsByHash = new HashMap<>();
@@ -585,6 +599,7 @@ public class PersistedClusterStateService {
             }
         });
 
+        final long mappingsLoadedTimeNanos = System.nanoTime();
         logger.trace("got metadata for [{}] mappings, now reading index metadata", mappingsByHash.size());
 
         final Set<String> indexUUIDs = new HashSet<>();
@@ -603,6 +618,17 @@ public class PersistedClusterStateService {
             builder.put(indexMetadata, false);
         });
 
+        final long indicesLoadedTimeNanos = System.nanoTime();
+        logger.debug(
+            "read global metadata from [{}] in [{}], [{}] mappings in [{}] and metadata for [{}] indices in [{}]",
+            dataPath,
+            TimeValue.timeValueNanos(globalLoadedTimeNanos - startTimeNanos),
+            mappingsByHash.size(),
+            TimeValue.timeValueNanos(mappingsLoadedTimeNanos - globalLoadedTimeNanos),
+            indexUUIDs.size(),
+            TimeValue.timeValueNanos(indicesLoadedTimeNanos - mappingsLoadedTimeNanos)
+        );
+
         final Map<String, String> userData = reader.getIndexCommit().getUserData();
         logger.trace("loaded metadata [{}] from [{}]", userData, reader.directory());
         assert userData.size() == COMMIT_DATA_SIZE : userData;
@@ -10,7 +10,12 @@ package org.elasticsearch.index;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.suggest.document.CompletionTerms;
+import org.apache.lucene.search.suggest.document.NRTSuggester;
 import org.elasticsearch.common.lucene.index.ElasticsearchDirectoryReader;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.fielddata.FieldDataContext;
 import org.elasticsearch.index.fielddata.IndexFieldData;
@@ -40,6 +45,7 @@ public final class IndexWarmer {
         ArrayList<Listener> list = new ArrayList<>();
         final Executor executor = threadPool.executor(ThreadPool.Names.WARMER);
         list.add(new FieldDataWarmer(executor, indexFieldDataService));
+        list.add(new CompletionSuggesterWarmer(executor));
 
         Collections.addAll(list, listeners);
         this.listeners = Collections.unmodifiableList(list);
@@ -148,4 +154,62 @@ public final class IndexWarmer {
         }
     }
 
+    /**
+     * Loads the suggesters of completion fields that are mapped with {@code eager_load} on new segments, which would otherwise
+     * get loaded by the first suggest request that hits the segment. Suggesters of segments that were already warmed are cached
+     * and not loaded again.
+     */
+    private static class CompletionSuggesterWarmer implements IndexWarmer.Listener {
+
+        private final Executor executor;
+
+        CompletionSuggesterWarmer(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public TerminationHandle warmReader(final IndexShard indexShard, final ElasticsearchDirectoryReader reader) {
+            final List<String> completionFields = new ArrayList<>();
+            for (String field : indexShard.mapperService().getEagerLoadCompletionFields()) {
+                completionFields.add(field);
+            }
+            if (completionFields.isEmpty()) {
+                return TerminationHandle.NO_WAIT;
+            }
+            final CountDownLatch latch = new CountDownLatch(completionFields.size());
+            for (final String field : completionFields) {
+                executor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        long sizeInBytes = 0;
+                        for (LeafReaderContext ctx : reader.leaves()) {
+                            Terms terms = ctx.reader().terms(field);
+                            if (terms instanceof CompletionTerms completionTerms) {
+                                NRTSuggester suggester = completionTerms.suggester();
+                                if (suggester != null) {
+                                    sizeInBytes += suggester.ramBytesUsed();
+                                }
+                            }
+                        }
+
+                        if (indexShard.warmerService().logger().isTraceEnabled()) {
+                            indexShard.warmerService()
+                                .logger()
+                                .trace(
+                                    "warmed completion suggester for [{}] of size [{}], took [{}]",
+                                    field,
+                                    ByteSizeValue.ofBytes(sizeInBytes),
+                                    TimeValue.timeValueNanos(System.nanoTime() - start)
+                                );
+                        }
+                    } catch (Exception e) {
+                        indexShard.warmerService().logger().warn(() -> "failed to warm-up completion suggester for [" + field + "]", e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            return () -> latch.await();
+        }
+    }
 }
@@ -48,6 +48,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 final class LuceneChangesSnapshot implements Translog.Snapshot {
     static final int DEFAULT_BATCH_SIZE = 1024;
 
+    /**
+     * The maximum ratio between the doc ID range of a batch and the number of docs in it for which we still read stored fields
+     * sequentially. The sequential reader decompresses whole blocks, which is wasteful if most docs in these blocks are skipped.
+     */
+    static final int MAX_SEQUENTIAL_ACCESS_SPARSITY = 2;
+
     private final int searchBatchSize;
     private final long fromSeqNo, toSeqNo;
     private long lastSeenSeqNo;
@@ -265,13 +271,22 @@ final class LuceneChangesSnapshot implements Translog.Snapshot {
         }
     }
 
-    private static boolean hasSequentialAccess(ScoreDoc[] scoreDocs) {
+    /**
+     * Returns {@code true} if visiting the given docs in seq# order only moves forward through the index and the docs are dense enough
+     * for the sequential stored fields reader to pay off. Such batches are common when replaying history of indices that are mostly
+     * appended to, even when a few documents in between were updated or deleted.
+     */
+    static boolean hasSequentialAccess(ScoreDoc[] scoreDocs) {
+        if (scoreDocs.length == 0) {
+            return false;
+        }
         for (int i = 0; i < scoreDocs.length - 1; i++) {
-            if (scoreDocs[i].doc + 1 != scoreDocs[i + 1].doc) {
+            if (scoreDocs[i].doc >= scoreDocs[i + 1].doc) {
                 return false;
             }
         }
-        return true;
+        final long docIdSpan = scoreDocs[scoreDocs.length - 1].doc - scoreDocs[0].doc + 1L;
+        return docIdSpan <= (long) scoreDocs.length * MAX_SEQUENTIAL_ACCESS_SPARSITY;
     }
 
     private static IndexSearcher newIndexSearcher(Engine.Searcher engineSearcher) throws IOException {
@@ -61,6 +61,7 @@ import java.util.Set;
  *  <li>"preserve_separators" : true, (default)</li>
  *  <li>"preserve_position_increments" : true (default)</li>
  *  <li>"min_input_length": 50 (default)</li>
+ *  <li>"eager_load": false (default)</li>
  *  <li>"contexts" : CONTEXTS</li>
  * </ul>
  * see {@link ContextMappings#load(Object)} for CONTEXTS<br>
@@ -151,6 +152,7 @@ public class CompletionFieldMapper extends FieldMapper {
             m -> builder(m).maxInputLength.get(),
             Defaults.DEFAULT_MAX_INPUT_LENGTH
         ).addDeprecatedName("max_input_len").addValidator(Builder::validateInputLength).alwaysSerialize();
+        private final Parameter<Boolean> eagerLoad = Parameter.boolParam("eager_load", true, m -> builder(m).eagerLoad.get(), false);
         private final Parameter<Map<String, String>> meta = Parameter.metaParam();
 
         private final NamedAnalyzer defaultAnalyzer;
@@ -183,7 +185,15 @@ public class CompletionFieldMapper extends FieldMapper {
 
         @Override
         protected Parameter<?>[] getParameters() {
-            return new Parameter<?>[] { analyzer, searchAnalyzer, preserveSeparators, preservePosInc, maxInputLength, contexts, meta };
+            return new Parameter<?>[] {
+                analyzer,
+                searchAnalyzer,
+                preserveSeparators,
+                preservePosInc,
+                maxInputLength,
+                contexts,
+                eagerLoad,
+                meta };
         }
 
         NamedAnalyzer buildAnalyzer() {
@@ -205,6 +215,7 @@ public class CompletionFieldMapper extends FieldMapper {
 
             CompletionFieldType ft = new CompletionFieldType(context.buildFullName(name), completionAnalyzer, meta.getValue());
             ft.setContextMappings(contexts.getValue());
+            ft.setEagerLoad(eagerLoad.getValue());
             return new CompletionFieldMapper(name, ft, multiFieldsBuilder.build(this, context), copyTo.build(), this);
         }
 
@@ -248,6 +259,7 @@ public class CompletionFieldMapper extends FieldMapper {
     public static final class CompletionFieldType extends TermBasedFieldType {
 
         private ContextMappings contextMappings = null;
+        private boolean eagerLoad = false;
 
         public CompletionFieldType(String name, NamedAnalyzer searchAnalyzer, Map<String, String> meta) {
             super(name, true, false, false, new TextSearchInfo(Defaults.FIELD_TYPE, null, searchAnalyzer, searchAnalyzer), meta);
@@ -272,6 +284,18 @@ public class CompletionFieldMapper extends FieldMapper {
             return contextMappings;
         }
 
+        public void setEagerLoad(boolean eagerLoad) {
+            this.eagerLoad = eagerLoad;
+        }
+
+        /**
+         * @return true if the suggesters of this field are loaded when new segments are warmed
+         * rather than by the first suggest request that hits them
+         */
+        public boolean eagerLoad() {
+            return eagerLoad;
+        }
+
         /**
          * Completion prefix query
          */
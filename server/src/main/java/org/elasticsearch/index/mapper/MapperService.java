@@ -457,6 +457,24 @@ public class MapperService extends AbstractIndexComponent implements Closeable {
             .toList();
     }
 
+    /**
+     * Returns the names of completion fields whose suggesters are loaded eagerly. The flag is read from the field mappers
+     * rather than from the field types, since a runtime field may shadow a completion field of the same name.
+     */
+    public Iterable<String> getEagerLoadCompletionFields() {
+        DocumentMapper mapper = this.mapper;
+        if (mapper == null) {
+            return Collections.emptySet();
+        }
+        MappingLookup mappingLookup = mapper.mappers();
+        return mappingLookup.getCompletionFields()
+            .stream()
+            .map(mappingLookup::getMapper)
+            .filter(m -> m instanceof CompletionFieldMapper completion && completion.fieldType().eagerLoad())
+            .map(Mapper::name)
+            .toList();
+    }
+
     /**
      * Return the index-time analyzer associated with a particular field
      * @param field                     the field name
@@ -219,6 +219,13 @@ public final class MappingLookup {
         return fieldTypeLookup;
     }
 
+    /**
+     * Returns the names of all completion fields, including those defined as multi-fields.
+     */
+    public Set<String> getCompletionFields() {
+        return completionFields;
+    }
+
     /**
      * Returns the total number of fields defined in the mappings, including field mappers, object mappers as well as runtime fields.
      */
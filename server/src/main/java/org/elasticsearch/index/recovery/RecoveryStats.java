@@ -7,9 +7,11 @@
  */
 package org.elasticsearch.index.recovery;
 
+import org.elasticsearch.TransportVersion;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.xcontent.ToXContentFragment;
 import org.elasticsearch.xcontent.XContentBuilder;
@@ -25,9 +27,13 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class RecoveryStats implements ToXContentFragment, Writeable {
 
+    private static final TransportVersion RECOVERED_AND_REUSED_BYTES_VERSION = TransportVersion.V_8_8_0;
+
     private final AtomicInteger currentAsSource = new AtomicInteger();
     private final AtomicInteger currentAsTarget = new AtomicInteger();
     private final AtomicLong throttleTimeInNanos = new AtomicLong();
+    private final AtomicLong recoveredBytes = new AtomicLong();
+    private final AtomicLong reusedBytes = new AtomicLong();
 
     public RecoveryStats() {}
 
@@ -35,6 +41,10 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         currentAsSource.set(in.readVInt());
         currentAsTarget.set(in.readVInt());
         throttleTimeInNanos.set(in.readLong());
+        if (in.getTransportVersion().onOrAfter(RECOVERED_AND_REUSED_BYTES_VERSION)) {
+            recoveredBytes.set(in.readVLong());
+            reusedBytes.set(in.readVLong());
+        }
     }
 
     public void add(RecoveryStats recoveryStats) {
@@ -48,6 +58,8 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
     public void addTotals(RecoveryStats recoveryStats) {
         if (recoveryStats != null) {
             this.throttleTimeInNanos.addAndGet(recoveryStats.throttleTime().nanos());
+            this.recoveredBytes.addAndGet(recoveryStats.recoveredBytes());
+            this.reusedBytes.addAndGet(recoveryStats.reusedBytes());
         }
     }
 
@@ -72,6 +84,21 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         return TimeValue.timeValueNanos(throttleTimeInNanos.get());
     }
 
+    /**
+     * Total number of bytes copied to this shard by completed peer recoveries for which it served as a target
+     */
+    public long recoveredBytes() {
+        return recoveredBytes.get();
+    }
+
+    /**
+     * Total number of bytes that completed peer recoveries for which this shard served as a target did not need to copy because an
+     * identical file was already present in the local store
+     */
+    public long reusedBytes() {
+        return reusedBytes.get();
+    }
+
     public void incCurrentAsTarget() {
         currentAsTarget.incrementAndGet();
     }
@@ -92,12 +119,19 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         throttleTimeInNanos.addAndGet(nanos);
     }
 
+    public void addRecoveredAndReusedBytes(long recovered, long reused) {
+        recoveredBytes.addAndGet(recovered);
+        reusedBytes.addAndGet(reused);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.RECOVERY);
         builder.field(Fields.CURRENT_AS_SOURCE, currentAsSource());
         builder.field(Fields.CURRENT_AS_TARGET, currentAsTarget());
         builder.humanReadableField(Fields.THROTTLE_TIME_IN_MILLIS, Fields.THROTTLE_TIME, throttleTime());
+        builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, ByteSizeValue.ofBytes(recoveredBytes()));
+        builder.humanReadableField(Fields.REUSED_IN_BYTES, Fields.REUSED, ByteSizeValue.ofBytes(reusedBytes()));
         builder.endObject();
         return builder;
     }
@@ -108,6 +142,10 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         static final String CURRENT_AS_TARGET = "current_as_target";
         static final String THROTTLE_TIME = "throttle_time";
         static final String THROTTLE_TIME_IN_MILLIS = "throttle_time_in_millis";
+        static final String RECOVERED = "recovered";
+        static final String RECOVERED_IN_BYTES = "recovered_in_bytes";
+        static final String REUSED = "reused";
+        static final String REUSED_IN_BYTES = "reused_in_bytes";
     }
 
     @Override
@@ -115,6 +153,10 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         out.writeVInt(currentAsSource.get());
         out.writeVInt(currentAsTarget.get());
         out.writeLong(throttleTimeInNanos.get());
+        if (out.getTransportVersion().onOrAfter(RECOVERED_AND_REUSED_BYTES_VERSION)) {
+            out.writeVLong(recoveredBytes.get());
+            out.writeVLong(reusedBytes.get());
+        }
     }
 
     @Override
@@ -124,12 +166,14 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
         RecoveryStats that = (RecoveryStats) o;
         return currentAsSource() == that.currentAsSource()
             && currentAsTarget() == that.currentAsTarget()
-            && Objects.equals(throttleTime(), that.throttleTime());
+            && Objects.equals(throttleTime(), that.throttleTime())
+            && recoveredBytes() == that.recoveredBytes()
+            && reusedBytes() == that.reusedBytes();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(currentAsSource(), currentAsTarget(), throttleTime());
+        return Objects.hash(currentAsSource(), currentAsTarget(), throttleTime(), recoveredBytes(), reusedBytes());
     }
 
     @Override
@@ -140,6 +184,10 @@ public class RecoveryStats implements ToXContentFragment, Writeable {
             + currentAsTarget()
             + "], throttle ["
             + throttleTime()
+            + "], recovered ["
+            + recoveredBytes()
+            + "], reused ["
+            + reusedBytes()
             + "]";
     }
 }
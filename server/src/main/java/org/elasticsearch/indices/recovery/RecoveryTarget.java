@@ -307,6 +307,8 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
                 // this might still throw an exception ie. if the shard is CLOSED due to some other event.
                 // it's safer to decrement the reference in a try finally here.
                 indexShard.postRecovery("peer recovery done");
+                final RecoveryState.Index index = state().getIndex();
+                indexShard.recoveryStats().addRecoveredAndReusedBytes(index.recoveredBytes(), index.reusedBytes());
             } finally {
                 // release the initial reference. recovery files will be cleaned as soon as ref count goes to zero, potentially now
                 decRef();
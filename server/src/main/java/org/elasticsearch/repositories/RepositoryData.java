@@ -328,13 +328,17 @@ public final class RepositoryData {
      * @return List of indices that are changed but not removed
      */
     public List<IndexId> indicesToUpdateAfterRemovingSnapshot(Collection<SnapshotId> snapshotIds) {
+        final var snapshotIdsSet = new HashSet<>(snapshotIds);
         return indexSnapshots.entrySet().stream().filter(entry -> {
-            final Collection<SnapshotId> existingIds = entry.getValue();
-            if (snapshotIds.containsAll(existingIds)) {
-                return existingIds.size() > snapshotIds.size();
-            }
-            for (SnapshotId snapshotId : snapshotIds) {
-                if (entry.getValue().contains(snapshotId)) {
+            boolean removesAny = false;
+            boolean retainsAny = false;
+            for (SnapshotId existingId : entry.getValue()) {
+                if (snapshotIdsSet.contains(existingId)) {
+                    removesAny = true;
+                } else {
+                    retainsAny = true;
+                }
+                if (removesAny && retainsAny) {
                     return true;
                 }
             }
@@ -352,9 +356,10 @@ public final class RepositoryData {
      */
     public Map<IndexId, Collection<String>> indexMetaDataToRemoveAfterRemovingSnapshots(Collection<SnapshotId> snapshotIds) {
         Collection<IndexId> indicesForSnapshot = indicesToUpdateAfterRemovingSnapshot(snapshotIds);
+        final var snapshotIdsSet = new HashSet<>(snapshotIds);
         final Set<String> allRemainingIdentifiers = indexMetaDataGenerations.lookup.entrySet()
             .stream()
-            .filter(e -> snapshotIds.contains(e.getKey()) == false)
+            .filter(e -> snapshotIdsSet.contains(e.getKey()) == false)
             .flatMap(e -> e.getValue().values().stream())
             .map(indexMetaDataGenerations::getIndexMetaBlobId)
             .collect(Collectors.toSet());
@@ -501,9 +506,10 @@ public final class RepositoryData {
      *                                changed shard indexed by its shardId
      */
     public RepositoryData removeSnapshots(final Collection<SnapshotId> snapshots, final ShardGenerations updatedShardGenerations) {
+        final var snapshotsSet = new HashSet<>(snapshots);
         Map<String, SnapshotId> newSnapshotIds = snapshotIds.values()
             .stream()
-            .filter(Predicate.not(snapshots::contains))
+            .filter(Predicate.not(snapshotsSet::contains))
             .collect(Collectors.toMap(SnapshotId::getUUID, Function.identity()));
         if (newSnapshotIds.size() != snapshotIds.size() - snapshots.size()) {
             final Collection<SnapshotId> notFound = new HashSet<>(snapshots);
@@ -519,7 +525,7 @@ public final class RepositoryData {
             List<SnapshotId> snapshotIds = this.indexSnapshots.get(indexId);
             assert snapshotIds != null;
             List<SnapshotId> remaining = new ArrayList<>(snapshotIds);
-            if (remaining.removeAll(snapshots)) {
+            if (remaining.removeAll(snapshotsSet)) {
                 remaining = Collections.unmodifiableList(remaining);
             } else {
                 remaining = snapshotIds;
@@ -131,6 +131,7 @@ import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -142,6 +143,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -210,6 +212,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     private static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
 
+    /**
+     * Order in which the files of a shard are uploaded or downloaded. Starting with the largest files means that the tail of the operation
+     * consists of small files which spread evenly across the available threads, rather than a single large file being transferred by one
+     * thread while the others are idle.
+     */
+    static final Comparator<BlobStoreIndexShardSnapshot.FileInfo> LARGEST_FILES_FIRST = Comparator.comparingLong(
+        BlobStoreIndexShardSnapshot.FileInfo::length
+    ).reversed();
+
     /**
      * When set to true metadata files are stored in compressed format. This setting doesn’t affect index
      * files that are already compressed by default. Changing the setting does not invalidate existing files since reads
@@ -1024,6 +1035,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
         threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(ActionRunnable.wrap(listener, l -> {
             try {
+                // the blobs of all shards are deleted through the repository root container so that they are batched into as few bulk
+                // delete requests as the blob store allows rather than issuing at least one request per shard
                 deleteFromContainer(blobContainer(), filesToDelete);
                 l.onResponse(null);
             } catch (Exception e) {
@@ -1043,6 +1056,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
         final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
         final List<IndexId> indices = oldRepositoryData.indicesToUpdateAfterRemovingSnapshot(snapshotIds);
+        final Set<SnapshotId> snapshotIdsToDelete = Set.copyOf(snapshotIds);
 
         if (indices.isEmpty()) {
             onAllShardsCompleted.onResponse(Collections.emptyList());
@@ -1058,7 +1072,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         for (IndexId indexId : indices) {
             final Set<SnapshotId> snapshotsWithIndex = Set.copyOf(oldRepositoryData.getSnapshots(indexId));
             final Set<SnapshotId> survivingSnapshots = snapshotsWithIndex.stream()
-                .filter(id -> snapshotIds.contains(id) == false)
+                .filter(id -> snapshotIdsToDelete.contains(id) == false)
                 .collect(Collectors.toSet());
             final StepListener<Collection<Integer>> shardCountListener = new StepListener<>();
             final Collection<String> indexMetaGenerations = snapshotIds.stream()
@@ -1196,13 +1210,22 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         RepositoryData newRepoData,
         ActionListener<DeleteResult> listener
     ) {
-        final GroupedActionListener<DeleteResult> groupedListener = new GroupedActionListener<>(2, ActionListener.wrap(deleteResults -> {
-            DeleteResult deleteResult = DeleteResult.ZERO;
-            for (DeleteResult result : deleteResults) {
-                deleteResult = deleteResult.add(result);
-            }
-            listener.onResponse(deleteResult);
-        }, listener::onFailure));
+        final Set<String> survivingIndexIds = newRepoData.getIndices().values().stream().map(IndexId::getId).collect(Collectors.toSet());
+        final BlockingQueue<Map.Entry<String, BlobContainer>> staleIndices = foundIndices.entrySet()
+            .stream()
+            .filter(entry -> survivingIndexIds.contains(entry.getKey()) == false)
+            .collect(Collectors.toCollection(LinkedBlockingQueue::new));
+        final int staleIndexCount = staleIndices.size();
+        final GroupedActionListener<DeleteResult> groupedListener = new GroupedActionListener<>(
+            1 + Math.max(staleIndexCount, 1),
+            ActionListener.wrap(deleteResults -> {
+                DeleteResult deleteResult = DeleteResult.ZERO;
+                for (DeleteResult result : deleteResults) {
+                    deleteResult = deleteResult.add(result);
+                }
+                listener.onResponse(deleteResult);
+            }, listener::onFailure)
+        );
 
         final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
         final List<String> staleRootBlobs = staleRootBlobs(newRepoData, rootBlobs.keySet());
@@ -1215,11 +1238,29 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             }));
         }
 
-        final Set<String> survivingIndexIds = newRepoData.getIndices().values().stream().map(IndexId::getId).collect(Collectors.toSet());
-        if (foundIndices.keySet().equals(survivingIndexIds)) {
+        if (staleIndexCount == 0) {
             groupedListener.onResponse(DeleteResult.ZERO);
         } else {
-            executor.execute(ActionRunnable.supply(groupedListener, () -> cleanupStaleIndices(foundIndices, survivingIndexIds)));
+            // Each stale index folder is deleted recursively which requires listing and bulk deleting all of its contents. Start as many
+            // workers as fit into the snapshot pool at once at the most, each of which deletes stale index folders from the shared queue
+            // until it is empty.
+            final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), staleIndexCount);
+            for (int i = 0; i < workers; ++i) {
+                executeOneStaleIndexDelete(staleIndices, groupedListener);
+            }
+        }
+    }
+
+    private void executeOneStaleIndexDelete(
+        BlockingQueue<Map.Entry<String, BlobContainer>> staleIndices,
+        ActionListener<DeleteResult> listener
+    ) {
+        final Map.Entry<String, BlobContainer> staleIndex = staleIndices.poll();
+        if (staleIndex != null) {
+            threadPool.executor(ThreadPool.Names.SNAPSHOT).execute(ActionRunnable.wrap(listener, l -> {
+                l.onResponse(cleanupStaleIndex(staleIndex.getKey(), staleIndex.getValue()));
+                executeOneStaleIndexDelete(staleIndices, listener);
+            }));
         }
     }
 
@@ -1229,7 +1270,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * TODO: Add shard level cleanups
      * TODO: Add unreferenced index metadata cleanup
      * <ul>
-     *     <li>Deleting stale indices {@link #cleanupStaleIndices}</li>
+     *     <li>Deleting stale indices {@link #cleanupStaleIndex}</li>
      *     <li>Deleting unreferenced root level blobs {@link #cleanupStaleRootFiles}</li>
      * </ul>
      * @param repositoryStateId     Current repository state id
@@ -1346,28 +1387,23 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         return Collections.emptyList();
     }
 
-    private DeleteResult cleanupStaleIndices(Map<String, BlobContainer> foundIndices, Set<String> survivingIndexIds) {
-        DeleteResult deleteResult = DeleteResult.ZERO;
-        for (Map.Entry<String, BlobContainer> indexEntry : foundIndices.entrySet()) {
-            final String indexSnId = indexEntry.getKey();
-            try {
-                if (survivingIndexIds.contains(indexSnId) == false) {
-                    logger.debug("[{}] Found stale index [{}]. Cleaning it up", metadata.name(), indexSnId);
-                    deleteResult = deleteResult.add(indexEntry.getValue().delete());
-                    logger.debug("[{}] Cleaned up stale index [{}]", metadata.name(), indexSnId);
-                }
-            } catch (Exception e) {
-                logger.warn(
-                    () -> format(
-                        "[%s] index %s is no longer part of any snapshot in the repository, " + "but failed to clean up its index folder",
-                        metadata.name(),
-                        indexSnId
-                    ),
-                    e
-                );
-            }
+    private DeleteResult cleanupStaleIndex(String indexSnId, BlobContainer indexContainer) {
+        try {
+            logger.debug("[{}] Found stale index [{}]. Cleaning it up", metadata.name(), indexSnId);
+            final DeleteResult deleteResult = indexContainer.delete();
+            logger.debug("[{}] Cleaned up stale index [{}]", metadata.name(), indexSnId);
+            return deleteResult;
+        } catch (Exception e) {
+            logger.warn(
+                () -> format(
+                    "[%s] index %s is no longer part of any snapshot in the repository, " + "but failed to clean up its index folder",
+                    metadata.name(),
+                    indexSnId
+                ),
+                e
+            );
+            return DeleteResult.ZERO;
         }
-        return deleteResult;
     }
 
     @Override
@@ -2736,7 +2772,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             int indexTotalNumberOfFiles = 0;
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
-            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new PriorityBlockingQueue<>(
+                11,
+                LARGEST_FILES_FIRST
+            );
             int filesInShardMetadataCount = 0;
             long filesInShardMetadataSize = 0;
 
@@ -3047,11 +3086,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         listener.onResponse(null);
                     } else {
                         // Start as many workers as fit into the snapshot pool at once at the most
-                        final int workers = Math.min(
-                            threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(),
-                            snapshotFiles.indexFiles().size()
+                        final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), filesToRecover.size());
+                        final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new PriorityBlockingQueue<>(
+                            filesToRecover.size(),
+                            LARGEST_FILES_FIRST
                         );
-                        final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new LinkedBlockingQueue<>(filesToRecover);
+                        files.addAll(filesToRecover);
                         final ActionListener<Void> allFilesListener = fileQueueListener(files, workers, listener.map(v -> null));
                         // restore the files from the snapshot to the Lucene store
                         for (int i = 0; i < workers; ++i) {
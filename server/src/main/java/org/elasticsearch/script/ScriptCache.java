@@ -16,11 +16,13 @@ import org.elasticsearch.common.cache.Cache;
 import org.elasticsearch.common.cache.CacheBuilder;
 import org.elasticsearch.common.cache.RemovalListener;
 import org.elasticsearch.common.cache.RemovalNotification;
+import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.core.Tuple;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongSupplier;
@@ -35,6 +37,10 @@ public class ScriptCache {
     public static final CompilationRate UNLIMITED_COMPILATION_RATE = new CompilationRate(0, TimeValue.ZERO);
 
     private final Cache<CacheKey, Object> cache;
+    // compiled stored scripts, kept outside of the size and expiry bounds of the cache so that they are never evicted and recompiled
+    private final Map<CacheKey, Object> storedScripts = ConcurrentCollections.newConcurrentMap();
+    // the stored scripts of the last applied cluster state, null until the first one was applied
+    private volatile Set<StoredScriptSource> currentStoredScripts;
     private final ScriptMetrics scriptMetrics;
     final AtomicReference<TokenBucketState> tokenBucketState;
 
@@ -85,9 +91,16 @@ public class ScriptCache {
         String lang = scriptEngine.getType();
         CacheKey cacheKey = new CacheKey(lang, idOrCode, context.name, options);
 
+        if (type == ScriptType.STORED) {
+            Object storedScript = storedScripts.get(cacheKey);
+            if (storedScript != null) {
+                return context.factoryClazz.cast(storedScript);
+            }
+        }
+
         // Relying on computeIfAbsent to avoid multiple threads from compiling the same script
         try {
-            return context.factoryClazz.cast(cache.computeIfAbsent(cacheKey, key -> {
+            Object compiled = cache.computeIfAbsent(cacheKey, key -> {
                 // Either an un-cached inline script or indexed script
                 // If the script type is inline the name will be the same as the code for identification in exceptions
                 // but give the script engine the chance to be better, give it separate name + source code
@@ -110,7 +123,17 @@ public class ScriptCache {
                 // invalidate/check the cache if an indexed script changes.
                 scriptMetrics.onCompilation();
                 return compiledScript;
-            }));
+            });
+            if (type == ScriptType.STORED) {
+                storedScripts.putIfAbsent(cacheKey, compiled);
+                // the script may have been deleted while it was compiling, after retainStoredScripts already pruned the pinned
+                // scripts: check again now that it is pinned. retainStoredScripts publishes the sources before pruning, so either
+                // this check or its pruning sees the pinned script.
+                if (isStoredScript(cacheKey) == false) {
+                    storedScripts.remove(cacheKey, compiled);
+                }
+            }
+            return context.factoryClazz.cast(compiled);
         } catch (ExecutionException executionException) {
             Throwable cause = executionException.getCause();
             if (cause instanceof ScriptException) {
@@ -124,6 +147,19 @@ public class ScriptCache {
         }
     }
 
+    /**
+     * Drops the compiled stored scripts whose source is not among the given stored scripts anymore.
+     */
+    void retainStoredScripts(Set<StoredScriptSource> sources) {
+        currentStoredScripts = sources;
+        storedScripts.keySet().removeIf(key -> isStoredScript(key) == false);
+    }
+
+    private boolean isStoredScript(CacheKey key) {
+        Set<StoredScriptSource> sources = currentStoredScripts;
+        return sources == null || sources.contains(new StoredScriptSource(key.lang, key.idOrCode, key.options));
+    }
+
     /** Hack to rethrow unknown Exceptions from compile: */
     @SuppressWarnings("unchecked")
     static <T extends Throwable> void rethrow(Throwable t) throws T {
@@ -820,6 +820,10 @@ public class ScriptService implements Closeable, ClusterStateApplier, ScriptComp
     @Override
     public void applyClusterState(ClusterChangedEvent event) {
         clusterState = event.state();
+        if (event.changedCustomMetadataSet().contains(ScriptMetadata.TYPE)) {
+            // release the compiled stored scripts that were updated or deleted
+            cacheHolder.get().retainStoredScripts(Set.copyOf(getScriptsFromClusterState().values()));
+        }
     }
 
     void setCacheHolder(Settings settings) {
@@ -952,6 +956,14 @@ public class ScriptService implements Closeable, ClusterStateApplier, ScriptComp
             return new ScriptStats(contextStats);
         }
 
+        void retainStoredScripts(Set<StoredScriptSource> sources) {
+            if (general != null) {
+                general.retainStoredScripts(sources);
+            } else {
+                contextCache.values().forEach(cache -> cache.get().retainStoredScripts(sources));
+            }
+        }
+
         ScriptCacheStats cacheStats() {
             if (general != null) {
                 return new ScriptCacheStats(general.stats());
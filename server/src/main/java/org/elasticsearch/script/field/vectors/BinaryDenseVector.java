@@ -12,7 +12,6 @@ import org.apache.lucene.util.BytesRef;
 import org.elasticsearch.Version;
 import org.elasticsearch.index.mapper.vectors.VectorEncoderDecoder;
 
-import java.nio.ByteBuffer;
 import java.util.List;
 
 public class BinaryDenseVector implements DenseVector {
@@ -21,7 +20,10 @@ public class BinaryDenseVector implements DenseVector {
     protected final int dims;
     protected final Version indexVersion;
 
-    protected float[] decodedDocVector;
+    // decoded lazily and only handed out as a copy so that scripts cannot change the values the distance functions use
+    private float[] decodedDocVector;
+    protected boolean magnitudeDecoded;
+    protected float magnitude;
 
     public BinaryDenseVector(BytesRef docVector, int dims, Version indexVersion) {
         this.docVector = docVector;
@@ -31,6 +33,10 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public float[] getVector() {
+        return decodedDocVector().clone();
+    }
+
+    private float[] decodedDocVector() {
         if (decodedDocVector == null) {
             decodedDocVector = new float[dims];
             VectorEncoderDecoder.decodeDenseVector(docVector, decodedDocVector);
@@ -40,7 +46,11 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public float getMagnitude() {
-        return VectorEncoderDecoder.getMagnitude(indexVersion, docVector);
+        if (magnitudeDecoded == false) {
+            magnitude = VectorEncoderDecoder.getMagnitude(indexVersion, docVector);
+            magnitudeDecoded = true;
+        }
+        return magnitude;
     }
 
     @Override
@@ -50,22 +60,22 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public double dotProduct(float[] queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
 
         double dotProduct = 0;
-        for (float v : queryVector) {
-            dotProduct += byteBuffer.getFloat() * v;
+        for (int i = 0; i < queryVector.length; i++) {
+            dotProduct += vector[i] * queryVector[i];
         }
         return dotProduct;
     }
 
     @Override
     public double dotProduct(List<Number> queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
 
         double dotProduct = 0;
         for (int i = 0; i < queryVector.size(); i++) {
-            dotProduct += byteBuffer.getFloat() * queryVector.get(i).floatValue();
+            dotProduct += vector[i] * queryVector.get(i).floatValue();
         }
         return dotProduct;
     }
@@ -77,22 +87,22 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public double l1Norm(float[] queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
 
         double l1norm = 0;
-        for (float v : queryVector) {
-            l1norm += Math.abs(v - byteBuffer.getFloat());
+        for (int i = 0; i < queryVector.length; i++) {
+            l1norm += Math.abs(queryVector[i] - vector[i]);
         }
         return l1norm;
     }
 
     @Override
     public double l1Norm(List<Number> queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
 
         double l1norm = 0;
         for (int i = 0; i < queryVector.size(); i++) {
-            l1norm += Math.abs(queryVector.get(i).floatValue() - byteBuffer.getFloat());
+            l1norm += Math.abs(queryVector.get(i).floatValue() - vector[i]);
         }
         return l1norm;
     }
@@ -104,10 +114,10 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public double l2Norm(float[] queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
         double l2norm = 0;
-        for (float queryValue : queryVector) {
-            double diff = byteBuffer.getFloat() - queryValue;
+        for (int i = 0; i < queryVector.length; i++) {
+            double diff = vector[i] - queryVector[i];
             l2norm += diff * diff;
         }
         return Math.sqrt(l2norm);
@@ -115,10 +125,10 @@ public class BinaryDenseVector implements DenseVector {
 
     @Override
     public double l2Norm(List<Number> queryVector) {
-        ByteBuffer byteBuffer = wrap(docVector);
+        float[] vector = decodedDocVector();
         double l2norm = 0;
-        for (Number number : queryVector) {
-            double diff = byteBuffer.getFloat() - number.floatValue();
+        for (int i = 0; i < queryVector.size(); i++) {
+            double diff = vector[i] - queryVector.get(i).floatValue();
             l2norm += diff * diff;
         }
         return Math.sqrt(l2norm);
@@ -156,8 +166,4 @@ public class BinaryDenseVector implements DenseVector {
     public int getDims() {
         return dims;
     }
-
-    private static ByteBuffer wrap(BytesRef dv) {
-        return ByteBuffer.wrap(dv.bytes, dv.offset, dv.length);
-    }
 }
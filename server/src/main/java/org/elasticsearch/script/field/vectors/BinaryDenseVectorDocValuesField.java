@@ -22,6 +22,8 @@ public class BinaryDenseVectorDocValuesField extends DenseVectorDocValuesField {
     protected final Version indexVersion;
     protected final int dims;
     protected BytesRef value;
+    // decoded lazily and reused for every access to the current document
+    protected BinaryDenseVector vector;
 
     public BinaryDenseVectorDocValuesField(BinaryDocValues input, String name, ElementType elementType, int dims, Version indexVersion) {
         super(name, elementType);
@@ -32,6 +34,7 @@ public class BinaryDenseVectorDocValuesField extends DenseVectorDocValuesField {
 
     @Override
     public void setNextDocId(int docId) throws IOException {
+        vector = null;
         if (input.advanceExact(docId)) {
             value = input.binaryValue();
         } else {
@@ -55,7 +58,7 @@ public class BinaryDenseVectorDocValuesField extends DenseVectorDocValuesField {
             return DenseVector.EMPTY;
         }
 
-        return new BinaryDenseVector(value, dims, indexVersion);
+        return vector();
     }
 
     @Override
@@ -63,11 +66,18 @@ public class BinaryDenseVectorDocValuesField extends DenseVectorDocValuesField {
         if (isEmpty()) {
             return defaultValue;
         }
-        return new BinaryDenseVector(value, dims, indexVersion);
+        return vector();
     }
 
     @Override
     public DenseVector getInternal() {
         return get(null);
     }
+
+    private BinaryDenseVector vector() {
+        if (vector == null) {
+            vector = new BinaryDenseVector(value, dims, indexVersion);
+        }
+        return vector;
+    }
 }
@@ -190,6 +190,13 @@ public class FetchContext {
         return dvContext;
     }
 
+    /**
+     * Is the search being profiled
+     */
+    public boolean profile() {
+        return searchContext.getProfilers() != null;
+    }
+
     /**
      * Configuration for highlighting
      */
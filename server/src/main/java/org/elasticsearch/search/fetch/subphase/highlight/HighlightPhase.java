@@ -20,6 +20,7 @@ import org.elasticsearch.search.fetch.StoredFieldsSpec;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -49,6 +50,9 @@ public class HighlightPhase implements FetchSubPhase {
         FieldContext fieldContext = contextBuilders(context, highlightContext, query, sharedCache);
 
         return new FetchSubPhaseProcessor() {
+            // time spent highlighting each field, only tracked when profiling and reported as profile debug info
+            final Map<String, Long> timeInNanosPerField = context.profile() ? new LinkedHashMap<>() : null;
+
             @Override
             public void setNextReader(LeafReaderContext readerContext) {
 
@@ -64,9 +68,13 @@ public class HighlightPhase implements FetchSubPhase {
                 Map<String, HighlightField> highlightFields = new HashMap<>();
                 Map<String, Function<HitContext, FieldHighlightContext>> contextBuilders = fieldContext.builders;
                 for (String field : contextBuilders.keySet()) {
+                    long start = timeInNanosPerField != null ? System.nanoTime() : 0L;
                     FieldHighlightContext fieldContext = contextBuilders.get(field).apply(hitContext);
                     Highlighter highlighter = getHighlighter(fieldContext.field);
                     HighlightField highlightField = highlighter.highlight(fieldContext);
+                    if (timeInNanosPerField != null) {
+                        timeInNanosPerField.merge(field, System.nanoTime() - start, Long::sum);
+                    }
                     if (highlightField != null) {
                         // Note that we make sure to use the original field name in the response. This is because the
                         // original field could be an alias, and highlighter implementations may instead reference the
@@ -76,6 +84,14 @@ public class HighlightPhase implements FetchSubPhase {
                 }
                 hitContext.hit().highlightFields(highlightFields);
             }
+
+            @Override
+            public Map<String, Object> getDebugInfo() {
+                if (timeInNanosPerField == null) {
+                    return null;
+                }
+                return Map.of("time_in_nanos_per_field", Collections.unmodifiableMap(timeInNanosPerField));
+            }
         };
     }
 
@@ -18,6 +18,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TwoPhaseIterator;
 import org.apache.lucene.search.Weight;
 import org.elasticsearch.script.AbstractFieldScript;
@@ -85,6 +86,24 @@ public abstract class AbstractScriptFieldQuery<S extends AbstractFieldScript> ex
                 return new ConstantScoreScorer(this, score(), scoreMode, twoPhase);
             }
 
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext ctx) {
+                // Only build the script once a scorer is really needed. A conjunction that has a required
+                // clause without matches in this segment never asks for it, so the script is never loaded.
+                Weight weight = this;
+                return new ScorerSupplier() {
+                    @Override
+                    public Scorer get(long leadCost) throws IOException {
+                        return weight.scorer(ctx);
+                    }
+
+                    @Override
+                    public long cost() {
+                        return ctx.reader().maxDoc();
+                    }
+                };
+            }
+
             @Override
             public Explanation explain(LeafReaderContext context, int doc) throws IOException {
                 Explanation constantExplanation = super.explain(context, doc);
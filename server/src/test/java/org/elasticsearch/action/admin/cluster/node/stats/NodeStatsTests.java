@@ -623,6 +623,7 @@ public class NodeStatsTests extends ESTestCase {
         recoveryStats.incCurrentAsSource();
         recoveryStats.incCurrentAsTarget();
         recoveryStats.addThrottleTime(++iota);
+        recoveryStats.addRecoveredAndReusedBytes(++iota, ++iota);
         indicesCommonStats.getRecoveryStats().add(recoveryStats);
 
         indicesCommonStats.getBulk().add(new BulkStats(++iota, ++iota, ++iota, ++iota, ++iota));
@@ -0,0 +1,72 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.cluster.metadata;
+
+import org.elasticsearch.common.compress.CompressedXContent;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MappingMetadataTests extends ESTestCase {
+
+    public void testTypeAndRoutingFromCompressedSource() throws IOException {
+        final MappingMetadata mappingMetadata = new MappingMetadata(new CompressedXContent("""
+            {"_doc":{"properties":{"field":{"type":"keyword","fields":{"sub":{"type":"text"}}}},"_routing":{"required":true},"_meta":{}}}
+            """));
+        assertThat(mappingMetadata.type(), equalTo("_doc"));
+        assertTrue(mappingMetadata.routingRequired());
+    }
+
+    public void testRoutingNotRequiredByDefault() throws IOException {
+        final MappingMetadata mappingMetadata = new MappingMetadata(new CompressedXContent("""
+            {"_doc":{"properties":{"_routing":{"type":"keyword"}}}}"""));
+        assertThat(mappingMetadata.type(), equalTo("_doc"));
+        assertFalse(mappingMetadata.routingRequired());
+    }
+
+    public void testRoutingRequiredAsString() throws IOException {
+        final MappingMetadata mappingMetadata = new MappingMetadata(new CompressedXContent("""
+            {"_doc":{"_routing":{"required":"true"}}}"""));
+        assertTrue(mappingMetadata.routingRequired());
+    }
+
+    public void testInvalidRoutingRequired() {
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new MappingMetadata(new CompressedXContent("""
+                {"_doc":{"_routing":{"required":"not-a-boolean"}}}"""))
+        );
+        assertThat(e.getMessage(), containsString("Illegal value in field [_routing.required]"));
+    }
+
+    public void testNoRootType() {
+        final IllegalStateException e = expectThrows(IllegalStateException.class, () -> new MappingMetadata(new CompressedXContent("{}")));
+        assertThat(e.getMessage(), containsString("Can't derive type from mapping"));
+    }
+
+    public void testMultipleRootTypes() {
+        final IllegalStateException e = expectThrows(
+            IllegalStateException.class,
+            () -> new MappingMetadata(new CompressedXContent("""
+                {"_doc":{},"other":{}}"""))
+        );
+        assertThat(e.getMessage(), containsString("Can't derive type from mapping"));
+    }
+
+    public void testMatchesMapBasedConstructor() throws IOException {
+        final MappingMetadata fromMap = new MappingMetadata("_doc", Map.of("_doc", Map.of("_routing", Map.of("required", true))));
+        final MappingMetadata fromSource = new MappingMetadata(fromMap.source());
+        assertThat(fromSource, equalTo(fromMap));
+        assertThat(fromSource.getSha256(), equalTo(fromMap.getSha256()));
+    }
+}
@@ -1553,6 +1553,14 @@ public class PersistedClusterStateServiceTests extends ESTestCase {
                     "loading cluster state from segment: *timestamp=*"
                 )
             );
+            mockAppender.addExpectation(
+                new MockLogAppender.SeenEventExpectation(
+                    "should see load timing breakdown",
+                    PersistedClusterStateService.class.getCanonicalName(),
+                    Level.DEBUG,
+                    "read global metadata from [*] in [*], [0] mappings in [*] and metadata for [0] indices in [*]"
+                )
+            );
 
             try (var ignored = mockAppender.capturing(PersistedClusterStateService.class)) {
                 persistedClusterStateService.loadBestOnDiskState();
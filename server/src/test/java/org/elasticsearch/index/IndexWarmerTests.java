@@ -0,0 +1,99 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0 and the Server Side Public License, v 1; you may not use this file except
+ * in compliance with, at your election, the Elastic License 2.0 or the Server
+ * Side Public License, v 1.
+ */
+
+package org.elasticsearch.index;
+
+import org.apache.logging.log4j.Level;
+import org.elasticsearch.cluster.metadata.IndexMetadata;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.index.warmer.ShardIndexWarmerService;
+import org.elasticsearch.test.ESSingleNodeTestCase;
+import org.elasticsearch.test.MockLogAppender;
+import org.elasticsearch.test.junit.annotations.TestLogging;
+import org.elasticsearch.xcontent.XContentBuilder;
+import org.elasticsearch.xcontent.XContentFactory;
+import org.elasticsearch.xcontent.XContentType;
+
+import static org.elasticsearch.test.hamcrest.ElasticsearchAssertions.assertNoFailures;
+
+public class IndexWarmerTests extends ESSingleNodeTestCase {
+
+    @TestLogging(reason = "testing traces of the completion suggester warmer", value = "org.elasticsearch.index.warmer:TRACE")
+    public void testWarmsOnlyEagerLoadCompletionFields() throws Exception {
+        XContentBuilder mapping = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("properties")
+            .startObject("eager")
+            .field("type", "completion")
+            .field("eager_load", true)
+            .endObject()
+            .startObject("lazy")
+            .field("type", "completion")
+            .endObject()
+            .endObject()
+            .endObject();
+        assertRefreshWarmsOnlyEagerField(mapping);
+    }
+
+    @TestLogging(reason = "testing traces of the completion suggester warmer", value = "org.elasticsearch.index.warmer:TRACE")
+    public void testWarmsEagerLoadCompletionFieldShadowedByRuntimeField() throws Exception {
+        XContentBuilder mapping = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("runtime")
+            .startObject("eager")
+            .field("type", "keyword")
+            .endObject()
+            .endObject()
+            .startObject("properties")
+            .startObject("eager")
+            .field("type", "completion")
+            .field("eager_load", true)
+            .endObject()
+            .startObject("lazy")
+            .field("type", "completion")
+            .endObject()
+            .endObject()
+            .endObject();
+        assertRefreshWarmsOnlyEagerField(mapping);
+    }
+
+    private void assertRefreshWarmsOnlyEagerField(XContentBuilder mapping) throws Exception {
+        createIndex(
+            "test",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), -1)
+                .build(),
+            mapping
+        );
+        client().prepareIndex("test").setId("1").setSource("{\"eager\": \"foo\", \"lazy\": \"bar\"}", XContentType.JSON).get();
+
+        MockLogAppender appender = new MockLogAppender();
+        try (var ignored = appender.capturing(ShardIndexWarmerService.class)) {
+            appender.addExpectation(
+                new MockLogAppender.PatternSeenEventExpectation(
+                    "eager field warmed",
+                    ShardIndexWarmerService.class.getCanonicalName(),
+                    Level.TRACE,
+                    ".*warmed completion suggester for \\[eager\\] of size \\[[1-9].*"
+                )
+            );
+            appender.addExpectation(
+                new MockLogAppender.UnseenEventExpectation(
+                    "lazy field not warmed",
+                    ShardIndexWarmerService.class.getCanonicalName(),
+                    Level.TRACE,
+                    "*warmed completion suggester for [lazy]*"
+                )
+            );
+            assertNoFailures(client().admin().indices().prepareRefresh("test").get());
+            appender.assertAllExpectationsMatched();
+        }
+    }
+}
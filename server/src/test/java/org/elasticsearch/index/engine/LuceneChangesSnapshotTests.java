@@ -9,6 +9,7 @@
 package org.elasticsearch.index.engine;
 
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.ScoreDoc;
 import org.elasticsearch.Version;
 import org.elasticsearch.common.Randomness;
 import org.elasticsearch.common.settings.Settings;
@@ -22,6 +23,7 @@ import org.elasticsearch.test.IndexSettingsModule;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -330,7 +332,7 @@ public class LuceneChangesSnapshotTests extends EngineTestCase {
                 LuceneChangesSnapshot snapshot = (LuceneChangesSnapshot) engine.newChangesSnapshot(
                     "test",
                     between(1, 3),
-                    between(20, 100),
+                    1000,
                     false,
                     randomBoolean(),
                     randomBoolean()
@@ -341,6 +343,22 @@ public class LuceneChangesSnapshotTests extends EngineTestCase {
                 }
                 assertFalse(snapshot.useSequentialStoredFieldsReader());
             }
+            // enable optimization for forward-only accesses with small gaps in doc IDs
+            try (
+                LuceneChangesSnapshot snapshot = (LuceneChangesSnapshot) engine.newChangesSnapshot(
+                    "test",
+                    between(1, 3),
+                    between(20, 100),
+                    false,
+                    true,
+                    randomBoolean()
+                )
+            ) {
+                while ((op = snapshot.next()) != null) {
+                    assertTrue(op.toString(), snapshot.useSequentialStoredFieldsReader());
+                }
+                assertTrue(snapshot.useSequentialStoredFieldsReader());
+            }
             // enable optimization for sequential access of 10+ docs
             try (
                 LuceneChangesSnapshot snapshot = (LuceneChangesSnapshot) engine.newChangesSnapshot(
@@ -376,6 +394,20 @@ public class LuceneChangesSnapshotTests extends EngineTestCase {
         }
     }
 
+    public void testHasSequentialAccess() {
+        assertTrue(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(3, 4, 5, 6)));
+        assertTrue(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(3, 5, 6, 8)));
+        assertFalse(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(3, 5, 4, 6)));
+        assertFalse(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(3, 3, 4, 5)));
+        assertFalse(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(3, 4, 5, 100)));
+        assertFalse(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs()));
+        assertTrue(LuceneChangesSnapshot.hasSequentialAccess(scoreDocs(7)));
+    }
+
+    private static ScoreDoc[] scoreDocs(int... docs) {
+        return Arrays.stream(docs).mapToObj(doc -> new ScoreDoc(doc, Float.NaN)).toArray(ScoreDoc[]::new);
+    }
+
     class Follower extends Thread {
         private final InternalEngine leader;
         private final InternalEngine engine;
@@ -61,10 +61,13 @@ import java.util.function.Function;
 import static org.elasticsearch.xcontent.XContentFactory.jsonBuilder;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyIterable;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 public class CompletionFieldMapperTests extends MapperTestCase {
 
@@ -122,6 +125,10 @@ public class CompletionFieldMapperTests extends MapperTestCase {
             CompletionFieldMapper cfm = (CompletionFieldMapper) m;
             assertEquals(30, cfm.getMaxInputLength());
         });
+        checker.registerUpdateCheck(b -> b.field("eager_load", true), m -> {
+            CompletionFieldMapper cfm = (CompletionFieldMapper) m;
+            assertTrue(cfm.fieldType().eagerLoad());
+        });
     }
 
     @Override
@@ -149,6 +156,43 @@ public class CompletionFieldMapperTests extends MapperTestCase {
         assertThat(perFieldCodec.getPostingsFormatForField("field"), instanceOf(Completion90PostingsFormat.class));
     }
 
+    public void testCompletionFieldsLookup() throws IOException {
+        MapperService mapperService = createMapperService(mapping(b -> {
+            b.startObject("suggest").field("type", "completion").endObject();
+            b.startObject("title");
+            {
+                b.field("type", "text");
+                b.startObject("fields").startObject("suggest").field("type", "completion").endObject().endObject();
+            }
+            b.endObject();
+        }));
+        assertThat(mapperService.mappingLookup().getCompletionFields(), equalTo(Set.of("suggest", "title.suggest")));
+        assertThat(mapperService.getEagerLoadCompletionFields(), emptyIterable());
+    }
+
+    public void testEagerLoadCompletionFields() throws IOException {
+        MapperService mapperService = createMapperService(mapping(b -> {
+            b.startObject("eager").field("type", "completion").field("eager_load", true).endObject();
+            b.startObject("lazy").field("type", "completion").endObject();
+        }));
+        assertFalse(((CompletionFieldMapper.CompletionFieldType) mapperService.fieldType("lazy")).eagerLoad());
+        assertThat(mapperService.getEagerLoadCompletionFields(), contains("eager"));
+    }
+
+    public void testEagerLoadCompletionFieldShadowedByRuntimeField() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("_doc");
+        builder.startObject("runtime");
+        builder.startObject("suggest").field("type", "keyword").endObject();
+        builder.endObject();
+        builder.startObject("properties");
+        builder.startObject("suggest").field("type", "completion").field("eager_load", true).endObject();
+        builder.endObject().endObject().endObject();
+
+        MapperService mapperService = createMapperService(builder);
+        assertThat(mapperService.fieldType("suggest"), not(instanceOf(CompletionFieldMapper.CompletionFieldType.class)));
+        assertThat(mapperService.getEagerLoadCompletionFields(), contains("suggest"));
+    }
+
     public void testDefaultConfiguration() throws IOException {
         DocumentMapper defaultMapper = createDocumentMapper(fieldMapping(this::minimalMapping));
 
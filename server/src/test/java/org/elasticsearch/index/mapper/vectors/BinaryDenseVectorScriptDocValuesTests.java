@@ -62,6 +62,59 @@ public class BinaryDenseVectorScriptDocValuesTests extends ESTestCase {
         }
     }
 
+    public void testFloatVectorIsReusedWithinDocument() throws IOException {
+        int dims = 3;
+        float[][] vectors = { { 1, 1, 1 }, { 1, 1, 2 } };
+
+        BinaryDocValues docValues = wrap(vectors, ElementType.FLOAT, Version.CURRENT);
+        DenseVectorDocValuesField field = new BinaryDenseVectorDocValuesField(docValues, "test", ElementType.FLOAT, dims, Version.CURRENT);
+
+        field.setNextDocId(0);
+        DenseVector vector = field.get();
+        assertSame(vector, field.get());
+        assertSame(vector, field.getInternal());
+        assertArrayEquals(vectors[0], vector.getVector(), 0.0001f);
+
+        field.setNextDocId(1);
+        DenseVector next = field.get();
+        assertNotSame(vector, next);
+        assertSame(next, field.get());
+        assertArrayEquals(vectors[1], next.getVector(), 0.0001f);
+
+        field.setNextDocId(0);
+        assertNotSame(vector, field.get());
+        assertArrayEquals(vectors[0], field.get().getVector(), 0.0001f);
+
+        field.setNextDocId(2);
+        assertTrue(field.isEmpty());
+        assertSame(DenseVector.EMPTY, field.get());
+    }
+
+    public void testFloatGetVectorReturnsCopy() throws IOException {
+        int dims = 3;
+        float[][] vectors = { { 1, 1, 1 }, { 1, 1, 2 }, { 1, 1, 3 } };
+        float[] queryVector = { 1, 2, 3 };
+
+        for (Version indexVersion : Arrays.asList(Version.V_7_4_0, Version.CURRENT)) {
+            BinaryDocValues docValues = wrap(vectors, ElementType.FLOAT, indexVersion);
+            DenseVectorDocValuesField field = new BinaryDenseVectorDocValuesField(docValues, "test", ElementType.FLOAT, dims, indexVersion);
+            for (int i = 0; i < vectors.length; i++) {
+                field.setNextDocId(i);
+                DenseVector vector = field.get();
+                double dotProduct = vector.dotProduct(queryVector);
+                double l2Norm = vector.l2Norm(queryVector);
+                float magnitude = vector.getMagnitude();
+
+                Arrays.fill(vector.getVector(), randomFloat());
+
+                assertArrayEquals(vectors[i], vector.getVector(), 0.0001f);
+                assertEquals(dotProduct, vector.dotProduct(queryVector), 0.0001);
+                assertEquals(l2Norm, vector.l2Norm(queryVector), 0.0001);
+                assertEquals(magnitude, vector.getMagnitude(), 0.0001f);
+            }
+        }
+    }
+
     public void testFloatMetadataAndIterator() throws IOException {
         int dims = 3;
         Version indexVersion = Version.CURRENT;
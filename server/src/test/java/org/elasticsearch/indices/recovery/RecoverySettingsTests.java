@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 import static org.elasticsearch.indices.recovery.RecoverySettings.DEFAULT_FACTOR_VALUE;
 import static org.elasticsearch.indices.recovery.RecoverySettings.DEFAULT_MAX_BYTES_PER_SEC;
 import static org.elasticsearch.indices.recovery.RecoverySettings.INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING;
+import static org.elasticsearch.indices.recovery.RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING;
 import static org.elasticsearch.indices.recovery.RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS;
 import static org.elasticsearch.indices.recovery.RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_PER_NODE;
 import static org.elasticsearch.indices.recovery.RecoverySettings.INDICES_RECOVERY_USE_SNAPSHOTS_SETTING;
@@ -119,6 +120,18 @@ public class RecoverySettingsTests extends ESTestCase {
         );
     }
 
+    public void testMaxConcurrentOperationsCanBeDynamicallyUpdated() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final RecoverySettings recoverySettings = new RecoverySettings(Settings.EMPTY, clusterSettings);
+        assertThat(recoverySettings.getMaxConcurrentOperations(), equalTo(1));
+
+        final int maxConcurrentOperations = randomIntBetween(1, 4);
+        clusterSettings.applySettings(
+            Settings.builder().put(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.getKey(), maxConcurrentOperations).build()
+        );
+        assertThat(recoverySettings.getMaxConcurrentOperations(), equalTo(maxConcurrentOperations));
+    }
+
     public void testAvailableBandwidthsSettingsAreAllConfigured() {
         final NodeRecoverySettings recoverySettings = nodeRecoverySettings();
         recoverySettings.withRandomIndicesRecoveryMaxBytesPerSec();
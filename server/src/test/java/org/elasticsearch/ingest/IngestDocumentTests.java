@@ -128,6 +128,20 @@ public class IngestDocumentTests extends ESTestCase {
         }
     }
 
+    public void testFieldPathResolvedAgainstEachDocument() {
+        // parsed field paths are shared between documents, so the same path must resolve against the document it is used with
+        IngestDocument other = new IngestDocument("index", "id", 1, null, null, new HashMap<>(Map.of("foo", "baz")));
+        for (int i = 0; i < 3; i++) {
+            assertThat(ingestDocument.getFieldValue("_source.foo", String.class), equalTo("bar"));
+            assertThat(other.getFieldValue("_source.foo", String.class), equalTo("baz"));
+            assertThat(ingestDocument.getFieldValue("_source._ingest.timestamp", ZonedDateTime.class), equalTo(BOGUS_TIMESTAMP));
+            assertThat(
+                other.getFieldValue("_ingest.timestamp", ZonedDateTime.class),
+                both(notNullValue()).and(not(equalTo(BOGUS_TIMESTAMP)))
+            );
+        }
+    }
+
     public void testGetFieldValueNullValue() {
         assertThat(ingestDocument.getFieldValue("fizz.foo_null", Object.class), nullValue());
     }
@@ -67,6 +67,21 @@ public class RepositoryDataTests extends ESTestCase {
         );
     }
 
+    public void testIndicesToUpdateAfterRemovingMultipleSnapshots() {
+        final RepositoryData repositoryData = generateRandomRepoData();
+        final List<IndexId> indicesBefore = List.copyOf(repositoryData.getIndices().values());
+        final List<SnapshotId> snapshotsToRemove = randomSubsetOf(
+            between(1, repositoryData.getSnapshotIds().size()),
+            repositoryData.getSnapshotIds()
+        );
+        final IndexId[] indicesToUpdate = indicesBefore.stream().filter(index -> {
+            final List<SnapshotId> snapshotIds = repositoryData.getSnapshots(index);
+            return snapshotIds.stream().anyMatch(snapshotsToRemove::contains)
+                && snapshotIds.stream().anyMatch(snapshotId -> snapshotsToRemove.contains(snapshotId) == false);
+        }).toArray(IndexId[]::new);
+        assertThat(repositoryData.indicesToUpdateAfterRemovingSnapshot(snapshotsToRemove), containsInAnyOrder(indicesToUpdate));
+    }
+
     public void testXContent() throws IOException {
         RepositoryData repositoryData = generateRandomRepoData().withClusterUuid(UUIDs.randomBase64UUID(random()));
         XContentBuilder builder = JsonXContent.contentBuilder();
@@ -19,6 +19,10 @@ import org.elasticsearch.cluster.routing.ShardRouting;
 import org.elasticsearch.cluster.routing.ShardRoutingHelper;
 import org.elasticsearch.cluster.service.ClusterService;
 import org.elasticsearch.common.UUIDs;
+import org.elasticsearch.common.blobstore.BlobContainer;
+import org.elasticsearch.common.blobstore.BlobPath;
+import org.elasticsearch.common.blobstore.BlobStore;
+import org.elasticsearch.common.blobstore.support.FilterBlobContainer;
 import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.MockBigArrays;
@@ -45,15 +49,25 @@ import org.elasticsearch.repositories.fs.FsRepository;
 import org.elasticsearch.snapshots.Snapshot;
 import org.elasticsearch.snapshots.SnapshotId;
 import org.elasticsearch.snapshots.SnapshotInfo;
+import org.elasticsearch.snapshots.mockstore.BlobStoreWrapper;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 /**
  * This class tests the behavior of {@link BlobStoreRepository} when it
@@ -62,6 +76,12 @@ import static org.hamcrest.Matchers.containsString;
  */
 public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
 
+    @Override
+    public Settings threadPoolSettings() {
+        // a single snapshot thread makes the order in which blobs are uploaded and downloaded deterministic
+        return Settings.builder().put(super.threadPoolSettings()).put("thread_pool.snapshot.max", 1).build();
+    }
+
     /**
      * Restoring a snapshot that contains multiple files must succeed even when
      * some files already exist in the shard's store.
@@ -213,8 +233,66 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
         }
     }
 
+    public void testSnapshotUploadsLargestFilesFirst() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        indexDocsInSegments(shard);
+
+        final Map<String, Long> writtenDataBlobs = new LinkedHashMap<>();
+        final Repository repository = createRepository(
+            blobContainer -> new RecordingBlobContainer(blobContainer, writtenDataBlobs, new ArrayList<>())
+        );
+        final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+        snapshotShard(shard, snapshot, repository);
+
+        final List<Long> writtenSizes = new ArrayList<>(writtenDataBlobs.values());
+        assertThat(writtenSizes.size(), greaterThan(1));
+        assertThat(writtenSizes, equalTo(writtenSizes.stream().sorted(Comparator.reverseOrder()).toList()));
+        closeShards(shard);
+    }
+
+    public void testRestoreDownloadsLargestFilesFirst() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        indexDocsInSegments(shard);
+
+        final Map<String, Long> writtenDataBlobs = new LinkedHashMap<>();
+        final List<String> readDataBlobs = new ArrayList<>();
+        final Repository repository = createRepository(
+            blobContainer -> new RecordingBlobContainer(blobContainer, writtenDataBlobs, readDataBlobs)
+        );
+        final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+        snapshotShard(shard, snapshot, repository);
+
+        final IndexShard target = newShard(shard.shardId(), true);
+        recoverShardFromSnapshot(target, snapshot, repository);
+
+        assertThat(readDataBlobs, containsInAnyOrder(writtenDataBlobs.keySet().toArray()));
+        final List<Long> readSizes = readDataBlobs.stream().map(writtenDataBlobs::get).toList();
+        assertThat(readSizes.size(), greaterThan(1));
+        assertThat(readSizes, equalTo(readSizes.stream().sorted(Comparator.reverseOrder()).toList()));
+        closeShards(shard, target);
+    }
+
+    /** Index documents into the shard, flushing after each batch so that the shard ends up with several segments **/
+    private void indexDocsInSegments(IndexShard shard) throws IOException {
+        final int numSegments = randomIntBetween(2, 5);
+        int docId = 0;
+        for (int i = 0; i < numSegments; i++) {
+            final int numDocs = randomIntBetween(10, 100);
+            for (int j = 0; j < numDocs; j++) {
+                indexDoc(shard, "_doc", Integer.toString(docId++));
+            }
+            flushShard(shard, true);
+        }
+        assertDocCount(shard, docId);
+    }
+
     /** Create a {@link Repository} with a random name **/
     private Repository createRepository() {
+        return createRepository(UnaryOperator.identity());
+    }
+
+    /** Create a {@link Repository} with a random name, wrapping each of its blob containers with the given function **/
+    private Repository createRepository(UnaryOperator<BlobContainer> blobContainerWrapper) {
         Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).build();
         RepositoryMetadata repositoryMetadata = new RepositoryMetadata(randomAlphaOfLength(10), FsRepository.TYPE, settings);
         final ClusterService clusterService = BlobStoreTestUtil.mockClusterService(repositoryMetadata);
@@ -226,6 +304,16 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
             MockBigArrays.NON_RECYCLING_INSTANCE,
             new RecoverySettings(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS))
         ) {
+            @Override
+            protected BlobStore createBlobStore() throws Exception {
+                return new BlobStoreWrapper(super.createBlobStore()) {
+                    @Override
+                    public BlobContainer blobContainer(BlobPath path) {
+                        return blobContainerWrapper.apply(super.blobContainer(path));
+                    }
+                };
+            }
+
             @Override
             protected void assertSnapshotOrGenericThread() {
                 // eliminate thread name check as we create repo manually
@@ -248,4 +336,44 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
                 .build()
         );
     }
+
+    /**
+     * Records the names of the data blobs written to and read from the repository, in the order in which the repository accesses them.
+     */
+    private static class RecordingBlobContainer extends FilterBlobContainer {
+
+        private final Map<String, Long> writtenDataBlobs;
+        private final List<String> readDataBlobs;
+
+        RecordingBlobContainer(BlobContainer delegate, Map<String, Long> writtenDataBlobs, List<String> readDataBlobs) {
+            super(delegate);
+            this.writtenDataBlobs = writtenDataBlobs;
+            this.readDataBlobs = readDataBlobs;
+        }
+
+        @Override
+        protected BlobContainer wrapChild(BlobContainer child) {
+            return new RecordingBlobContainer(child, writtenDataBlobs, readDataBlobs);
+        }
+
+        @Override
+        public void writeBlob(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException {
+            if (blobName.startsWith(BlobStoreRepository.UPLOADED_DATA_BLOB_PREFIX)) {
+                synchronized (writtenDataBlobs) {
+                    writtenDataBlobs.put(blobName, blobSize);
+                }
+            }
+            super.writeBlob(blobName, inputStream, blobSize, failIfAlreadyExists);
+        }
+
+        @Override
+        public InputStream readBlob(String blobName) throws IOException {
+            if (blobName.startsWith(BlobStoreRepository.UPLOADED_DATA_BLOB_PREFIX)) {
+                synchronized (readDataBlobs) {
+                    readDataBlobs.add(blobName);
+                }
+            }
+            return super.readBlob(blobName);
+        }
+    }
 }
@@ -13,6 +13,8 @@ import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.test.ESTestCase;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.LongSupplier;
 
 public class ScriptCacheTests extends ESTestCase {
@@ -129,4 +131,37 @@ public class ScriptCacheTests extends ESTestCase {
             assertEquals(initialState.availableTokens, currentState.availableTokens, 0.0); // delta of 0.0 because it should never change
         }
     }
+
+    public void testStoredScriptsReleasedWhenNoLongerStored() {
+        ScriptContext<FieldScript.Factory> context = FieldScript.CONTEXT;
+        ScriptEngine engine = new MockScriptEngine("test", Map.of("1+1", p -> null, "2+2", p -> null), Map.of());
+        ScriptCache cache = new ScriptCache(1, TimeValue.ZERO, ScriptCache.UNLIMITED_COMPILATION_RATE, "setting", time);
+
+        Object compiled = cache.compile(context, engine, "id", "1+1", ScriptType.STORED, Map.of());
+        cache.compile(context, engine, "2+2", "2+2", ScriptType.INLINE, Map.of());
+        assertEquals(1L, cache.stats().getCacheEvictions());
+
+        cache.retainStoredScripts(Set.of(new StoredScriptSource("test", "1+1", Map.of())));
+        assertSame(compiled, cache.compile(context, engine, "id", "1+1", ScriptType.STORED, Map.of()));
+        assertEquals(2L, cache.stats().getCompilations());
+
+        cache.retainStoredScripts(Set.of());
+        assertNotSame(compiled, cache.compile(context, engine, "id", "1+1", ScriptType.STORED, Map.of()));
+        assertEquals(3L, cache.stats().getCompilations());
+    }
+
+    public void testStoredScriptDeletedWhileCompilingNotPinned() {
+        ScriptContext<FieldScript.Factory> context = FieldScript.CONTEXT;
+        ScriptEngine engine = new MockScriptEngine("test", Map.of("1+1", p -> null, "2+2", p -> null), Map.of());
+        ScriptCache cache = new ScriptCache(1, TimeValue.ZERO, ScriptCache.UNLIMITED_COMPILATION_RATE, "setting", time);
+
+        // the script got deleted after its source was read for compilation
+        cache.retainStoredScripts(Set.of());
+        Object compiled = cache.compile(context, engine, "id", "1+1", ScriptType.STORED, Map.of());
+        cache.compile(context, engine, "2+2", "2+2", ScriptType.INLINE, Map.of());
+        assertEquals(1L, cache.stats().getCacheEvictions());
+
+        assertNotSame(compiled, cache.compile(context, engine, "id", "1+1", ScriptType.STORED, Map.of()));
+        assertEquals(3L, cache.stats().getCompilations());
+    }
 }
@@ -263,6 +263,24 @@ public class ScriptServiceTests extends ESTestCase {
         assertEquals(1L, scriptService.stats().getCompilations());
     }
 
+    public void testIndexedScriptNotEvictedFromCache() throws IOException {
+        buildScriptService(
+            Settings.builder()
+                .put(SCRIPT_GENERAL_CACHE_SIZE_SETTING.getKey(), 1)
+                .put(SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(), "2/1m")
+                .build()
+        );
+        ScriptContext<?> ctx = randomFrom(rateLimitedContexts.values());
+        Script storedScript = new Script(ScriptType.STORED, null, "script", Collections.emptyMap());
+        Object compiled = scriptService.compile(storedScript, ctx);
+        scriptService.compile(new Script(ScriptType.INLINE, "test", "2+2", Collections.emptyMap()), ctx);
+        assertEquals(1L, scriptService.stats().getCacheEvictions());
+        // all compilations of the rate limit have been used up, so the stored script must not be compiled again
+        assertSame(compiled, scriptService.compile(storedScript, ctx));
+        assertEquals(2L, scriptService.stats().getCompilations());
+        assertEquals(0L, scriptService.stats().getCompilationLimitTriggered());
+    }
+
     public void testContextCompilationStatsOnCacheHit() throws IOException {
         buildScriptService(Settings.builder().put(SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(), USE_CONTEXT_RATE_KEY).build());
         Script script = new Script(ScriptType.INLINE, "test", "1+1", Collections.emptyMap());
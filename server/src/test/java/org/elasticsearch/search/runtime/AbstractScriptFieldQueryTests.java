@@ -8,12 +8,22 @@
 
 package org.elasticsearch.search.runtime;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.elasticsearch.script.AbstractFieldScript;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.test.ESTestCase;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.equalTo;
 
@@ -52,4 +62,40 @@ public class AbstractScriptFieldQueryTests extends ESTestCase {
             )
         );
     }
+
+    public void testScorerSupplierDefersScript() throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+            iw.addDocument(new Document());
+            try (DirectoryReader reader = iw.getReader()) {
+                AtomicInteger scriptsBuilt = new AtomicInteger();
+                AbstractScriptFieldQuery<AbstractFieldScript> query = new AbstractScriptFieldQuery<AbstractFieldScript>(
+                    new Script("test"),
+                    "test",
+                    ctx -> {
+                        scriptsBuilt.incrementAndGet();
+                        return null;
+                    }
+                ) {
+                    @Override
+                    protected boolean matches(AbstractFieldScript scriptContext, int docId) {
+                        return true;
+                    }
+
+                    @Override
+                    public String toString(String field) {
+                        return "test";
+                    }
+                };
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setQueryCache(null);
+                Weight weight = searcher.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 1f);
+                LeafReaderContext leaf = reader.leaves().get(0);
+                ScorerSupplier scorerSupplier = weight.scorerSupplier(leaf);
+                assertThat(scorerSupplier.cost(), equalTo((long) leaf.reader().maxDoc()));
+                assertThat(scriptsBuilt.get(), equalTo(0));
+                assertNotNull(scorerSupplier.get(Long.MAX_VALUE));
+                assertThat(scriptsBuilt.get(), equalTo(1));
+            }
+        }
+    }
 }
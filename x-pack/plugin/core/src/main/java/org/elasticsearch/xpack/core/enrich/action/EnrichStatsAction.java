@@ -14,6 +14,7 @@ import org.elasticsearch.action.support.master.MasterNodeRequest;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
 import org.elasticsearch.common.io.stream.Writeable;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.tasks.TaskInfo;
 import org.elasticsearch.xcontent.ToXContentFragment;
 import org.elasticsearch.xcontent.ToXContentObject;
@@ -274,17 +275,37 @@ public class EnrichStatsAction extends ActionType<EnrichStatsAction.Response> {
             private final long hits;
             private final long misses;
             private final long evictions;
+            private final long hitsTimeInMillis;
+            private final long missesTimeInMillis;
 
-            public CacheStats(String nodeId, long count, long hits, long misses, long evictions) {
+            public CacheStats(
+                String nodeId,
+                long count,
+                long hits,
+                long misses,
+                long evictions,
+                long hitsTimeInMillis,
+                long missesTimeInMillis
+            ) {
                 this.nodeId = nodeId;
                 this.count = count;
                 this.hits = hits;
                 this.misses = misses;
                 this.evictions = evictions;
+                this.hitsTimeInMillis = hitsTimeInMillis;
+                this.missesTimeInMillis = missesTimeInMillis;
             }
 
             public CacheStats(StreamInput in) throws IOException {
-                this(in.readString(), in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong());
+                this(
+                    in.readString(),
+                    in.readVLong(),
+                    in.readVLong(),
+                    in.readVLong(),
+                    in.readVLong(),
+                    in.getTransportVersion().onOrAfter(TransportVersion.V_8_8_0) ? in.readVLong() : 0,
+                    in.getTransportVersion().onOrAfter(TransportVersion.V_8_8_0) ? in.readVLong() : 0
+                );
             }
 
             public String getNodeId() {
@@ -307,6 +328,14 @@ public class EnrichStatsAction extends ActionType<EnrichStatsAction.Response> {
                 return evictions;
             }
 
+            public long getHitsTimeInMillis() {
+                return hitsTimeInMillis;
+            }
+
+            public long getMissesTimeInMillis() {
+                return missesTimeInMillis;
+            }
+
             @Override
             public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
                 builder.field("node_id", nodeId);
@@ -314,6 +343,8 @@ public class EnrichStatsAction extends ActionType<EnrichStatsAction.Response> {
                 builder.field("hits", hits);
                 builder.field("misses", misses);
                 builder.field("evictions", evictions);
+                builder.humanReadableField("hits_time_in_millis", "hits_time", new TimeValue(hitsTimeInMillis));
+                builder.humanReadableField("misses_time_in_millis", "misses_time", new TimeValue(missesTimeInMillis));
                 return builder;
             }
 
@@ -324,6 +355,10 @@ public class EnrichStatsAction extends ActionType<EnrichStatsAction.Response> {
                 out.writeVLong(hits);
                 out.writeVLong(misses);
                 out.writeVLong(evictions);
+                if (out.getTransportVersion().onOrAfter(TransportVersion.V_8_8_0)) {
+                    out.writeVLong(hitsTimeInMillis);
+                    out.writeVLong(missesTimeInMillis);
+                }
             }
 
             @Override
@@ -335,12 +370,14 @@ public class EnrichStatsAction extends ActionType<EnrichStatsAction.Response> {
                     && hits == that.hits
                     && misses == that.misses
                     && evictions == that.evictions
+                    && hitsTimeInMillis == that.hitsTimeInMillis
+                    && missesTimeInMillis == that.missesTimeInMillis
                     && nodeId.equals(that.nodeId);
             }
 
             @Override
             public int hashCode() {
-                return Objects.hash(nodeId, count, hits, misses, evictions);
+                return Objects.hash(nodeId, count, hits, misses, evictions, hitsTimeInMillis, missesTimeInMillis);
             }
         }
     }
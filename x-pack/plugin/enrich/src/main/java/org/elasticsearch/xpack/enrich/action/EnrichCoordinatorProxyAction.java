@@ -29,6 +29,7 @@ import org.elasticsearch.xpack.enrich.EnrichPlugin;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -174,30 +175,37 @@ public class EnrichCoordinatorProxyAction extends ActionType<SearchResponse> {
                 }
                 assert slots.isEmpty() == false;
                 remoteRequestsTotal.increment();
+                // Documents of the same bulk request often look up the same enrich key, so only send each distinct search request once
+                // and hand its response to all slots that asked for it.
+                final Map<SearchRequest, List<Slot>> slotsByRequest = new LinkedHashMap<>();
+                for (Slot slot : slots) {
+                    slotsByRequest.computeIfAbsent(slot.searchRequest, k -> new ArrayList<>(1)).add(slot);
+                }
+                final List<List<Slot>> groupedSlots = new ArrayList<>(slotsByRequest.values());
                 final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
-                slots.forEach(slot -> multiSearchRequest.add(slot.searchRequest));
-                lookupFunction.accept(multiSearchRequest, (response, e) -> handleResponse(slots, response, e));
+                slotsByRequest.keySet().forEach(multiSearchRequest::add);
+                lookupFunction.accept(multiSearchRequest, (response, e) -> handleResponse(groupedSlots, response, e));
             }
         }
 
-        void handleResponse(List<Slot> slots, MultiSearchResponse response, Exception e) {
+        void handleResponse(List<List<Slot>> groupedSlots, MultiSearchResponse response, Exception e) {
             remoteRequestPermits.release();
-            executedSearchesTotal.add(slots.size());
+            executedSearchesTotal.add(groupedSlots.size());
 
             if (response != null) {
-                assert slots.size() == response.getResponses().length;
+                assert groupedSlots.size() == response.getResponses().length;
                 for (int i = 0; i < response.getResponses().length; i++) {
                     MultiSearchResponse.Item responseItem = response.getResponses()[i];
-                    Slot slot = slots.get(i);
-
-                    if (responseItem.isFailure()) {
-                        slot.actionListener.onFailure(responseItem.getFailure());
-                    } else {
-                        slot.actionListener.onResponse(responseItem.getResponse());
+                    for (Slot slot : groupedSlots.get(i)) {
+                        if (responseItem.isFailure()) {
+                            slot.actionListener.onFailure(responseItem.getFailure());
+                        } else {
+                            slot.actionListener.onResponse(responseItem.getResponse());
+                        }
                     }
                 }
             } else if (e != null) {
-                slots.forEach(slot -> slot.actionListener.onFailure(e));
+                groupedSlots.forEach(slotGroup -> slotGroup.forEach(slot -> slot.actionListener.onFailure(e)));
             } else {
                 throw new AssertionError("no response and no error");
             }
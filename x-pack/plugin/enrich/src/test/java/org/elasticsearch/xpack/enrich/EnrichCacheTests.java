@@ -6,13 +6,23 @@
  */
 package org.elasticsearch.xpack.enrich;
 
+import org.apache.lucene.search.TotalHits;
 import org.elasticsearch.Version;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.ShardSearchFailure;
 import org.elasticsearch.cluster.metadata.AliasMetadata;
 import org.elasticsearch.cluster.metadata.IndexMetadata;
 import org.elasticsearch.cluster.metadata.Metadata;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.MatchQueryBuilder;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.aggregations.InternalAggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.internal.InternalSearchResponse;
 import org.elasticsearch.test.ESTestCase;
 import org.elasticsearch.xpack.core.enrich.EnrichPolicy;
 
@@ -20,6 +30,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
@@ -136,6 +148,76 @@ public class EnrichCacheTests extends ESTestCase {
         assertThat(cacheStats.getEvictions(), equalTo(4L));
     }
 
+    public void testComputeIfAbsent() {
+        // Emulate cluster metadata:
+        var metadata = Metadata.builder()
+            .put(
+                IndexMetadata.builder(EnrichPolicy.getBaseName("policy1") + "-1")
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .putAlias(AliasMetadata.builder(EnrichPolicy.getBaseName("policy1")).build())
+            )
+            .build();
+        var searchRequest = new SearchRequest(EnrichPolicy.getBaseName("policy1")).source(
+            new SearchSourceBuilder().query(new MatchQueryBuilder("match_field", "1"))
+        );
+        SearchHit hit = new SearchHit(0, "1");
+        hit.sourceRef(new BytesArray("""
+            {"match_field":"1","enrich_field":"value"}"""));
+        SearchResponse searchResponse = new SearchResponse(
+            new InternalSearchResponse(
+                new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f),
+                InternalAggregations.EMPTY,
+                null,
+                null,
+                false,
+                null,
+                1
+            ),
+            null,
+            1,
+            1,
+            0,
+            100,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+
+        final AtomicLong testNanoTime = new AtomicLong(0);
+        // We use a relative time provider that increments 1ms every time it is called. So each operation appears to take 1ms
+        EnrichCache enrichCache = new EnrichCache(3, () -> testNanoTime.addAndGet(TimeValue.timeValueMillis(1).getNanos()));
+        enrichCache.setMetadata(metadata);
+
+        final AtomicInteger searches = new AtomicInteger();
+        final List<List<Map<?, ?>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            enrichCache.computeIfAbsent(searchRequest, (req, listener) -> {
+                searches.incrementAndGet();
+                listener.onResponse(searchResponse);
+            }, ActionListener.wrap(results::add, e -> fail("unexpected failure: " + e)));
+        }
+
+        // Only the first lookup needs to execute the search, the others are served from the cache
+        assertThat(searches.get(), equalTo(1));
+        assertThat(results.size(), equalTo(3));
+        for (List<Map<?, ?>> result : results) {
+            assertThat(result, equalTo(List.of(Map.of("match_field", "1", "enrich_field", "value"))));
+        }
+        // Every caller gets its own copy that it is free to modify
+        assertThat(results.get(1), not(sameInstance(results.get(2))));
+        assertThat(results.get(1).get(0), not(sameInstance(results.get(2).get(0))));
+
+        var cacheStats = enrichCache.getStats("_id");
+        assertThat(cacheStats.getCount(), equalTo(1L));
+        assertThat(cacheStats.getHits(), equalTo(2L));
+        assertThat(cacheStats.getMisses(), equalTo(1L));
+        // There are 2 hits, each taking 1ms:
+        assertThat(cacheStats.getHitsTimeInMillis(), equalTo(2L));
+        // There is 1 miss, made up of a cache query, and a search and cache put, each taking 1ms:
+        assertThat(cacheStats.getMissesTimeInMillis(), equalTo(2L));
+    }
+
     public void testDeepCopy() {
         Map<String, Object> original = new HashMap<>();
         {
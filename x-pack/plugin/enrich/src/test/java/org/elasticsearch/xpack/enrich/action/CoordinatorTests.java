@@ -198,6 +198,41 @@ public class CoordinatorTests extends ESTestCase {
         }
     }
 
+    public void testCoordinateLookupsDeduplicatesRequests() {
+        MockLookupFunction lookupFunction = new MockLookupFunction();
+        Coordinator coordinator = new Coordinator(lookupFunction, 10, 1, 100);
+
+        List<ActionListener<SearchResponse>> searchActionListeners = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            SearchRequest searchRequest = new SearchRequest("my-index");
+            searchRequest.source().query(new MatchQueryBuilder("my_field", String.valueOf(i % 2)));
+            @SuppressWarnings("unchecked")
+            ActionListener<SearchResponse> actionListener = Mockito.mock(ActionListener.class);
+            searchActionListeners.add(actionListener);
+            coordinator.queue.add(new Coordinator.Slot(searchRequest, actionListener));
+        }
+        coordinator.coordinateLookups();
+
+        // Only the two distinct search requests have been sent off
+        assertThat(coordinator.queue.size(), equalTo(0));
+        assertThat(lookupFunction.capturedRequests.size(), equalTo(1));
+        assertThat(lookupFunction.capturedRequests.get(0).requests().size(), equalTo(2));
+
+        SearchResponse evenResponse = emptySearchResponse();
+        SearchResponse oddResponse = emptySearchResponse();
+        MultiSearchResponse.Item[] responseItems = new MultiSearchResponse.Item[] {
+            new MultiSearchResponse.Item(evenResponse, null),
+            new MultiSearchResponse.Item(oddResponse, null) };
+        lookupFunction.capturedConsumers.get(0).accept(new MultiSearchResponse(responseItems, 1L), null);
+        assertThat(coordinator.getRemoteRequestsCurrent(), equalTo(0));
+        assertThat(coordinator.getStats("node").getExecutedSearchesTotal(), equalTo(2L));
+
+        // Each listener receives the response of its own search request
+        for (int i = 0; i < searchActionListeners.size(); i++) {
+            Mockito.verify(searchActionListeners.get(i)).onResponse(Mockito.same(i % 2 == 0 ? evenResponse : oddResponse));
+        }
+    }
+
     public void testNoBlockingWhenQueueing() throws Exception {
         MockLookupFunction lookupFunction = new MockLookupFunction();
         // Only one request allowed in flight. Queue size maxed at 1.